@@ -0,0 +1,117 @@
+package org.example.benchmarks;
+
+import org.jsoup.select.Elements;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Document;
+import org.w3c.dom.NodeList;
+
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Locator XPath against its proposed CSS replacement, on the same snapshot
+ * Setup reports when the two match a different number of nodes, which means
+ * the replacement is not a drop-in (or the XPath is broader than intended).
+ *
+ *   java -jar target/benchmarks.jar CssEquivalentBenchmark -p locator=UserManagementPage.SEARCH_BOX
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CssEquivalentBenchmark {
+
+    // Keys of LocatorCatalog.cssEquivalents()
+    @Param({
+            "LoginPage.USERNAME_FIELD",
+            "LoginPage.PASSWORD_FIELD",
+            "LoaderPage.LOADER_IMAGE",
+            "LoaderPage.LOADER_CONTAINER",
+            "DashboardPage.AGRIGEN_LOGO",
+            "DashboardPage.USER_AVATAR",
+            "DashboardPage.NOTIFICATION_ICON",
+            "DashboardPage.SETTINGS_ICON",
+            "UserManagementPage.SEARCH_BOX",
+            "UserManagementPage.SEARCH_ICON",
+            "UserManagementPage.CLEAR_SEARCH",
+            "UserManagementPage.TABLE_ROWS",
+            "UserManagementPage.FIRST_ROW",
+            "UserManagementPage.EDIT_BUTTON",
+            "UserManagementPage.DELETE_BUTTON",
+            "UserManagementPage.FIRST_PAGE_BUTTON",
+            "UserManagementPage.PREVIOUS_PAGE_BUTTON",
+            "UserManagementPage.NEXT_PAGE_BUTTON",
+            "UserManagementPage.LAST_PAGE_BUTTON",
+            "AddUserPage.FIRST_NAME_INPUT",
+            "AddUserPage.LAST_NAME_INPUT",
+            "AddUserPage.USER_NAME_INPUT",
+            "AddUserPage.PASSWORD_INPUT",
+            "AddUserPage.CONFIRM_PASSWORD_INPUT",
+            "AddUserPage.PASSWORD_VISIBILITY_TOGGLE",
+            "AddUserPage.CONFIRM_PASSWORD_VISIBILITY_TOGGLE",
+            "AddUserPage.ACTIVE_TOGGLE",
+            "AddUserPage.LOCKED_TOGGLE",
+            "AddUserPage.SAVE_BUTTON",
+            "AddUserPage.SUCCESS_MESSAGE",
+            "AddUserPage.ERROR_MESSAGE",
+            "Common.LOADING_SPINNER",
+            "Common.CIRCULAR_PROGRESS",
+            "Common.SUCCESS_SNACKBAR",
+            "Common.ERROR_POPUP",
+            "Common.ERROR_SNACKBAR",
+            "Common.SUBMIT_BUTTON",
+            "Common.CONFIRM_DIALOG",
+            "Common.DIALOG_TITLE",
+            "Common.DIALOG_CONTENT",
+            "Common.DROPDOWN_OPTION"
+    })
+    public String locator;
+
+    private org.jsoup.nodes.Document html;
+    private Document dom;
+    private String expression;
+    private String css;
+    private XPath xpath;
+
+    @Setup
+    public void setup() throws XPathExpressionException {
+        String snapshot = LocatorCatalog.snapshotFor(locator);
+        expression = LocatorCatalog.xpath(locator);
+        css = LocatorCatalog.css(locator);
+        html = DomSnapshots.loadHtml(snapshot);
+        dom = DomSnapshots.loadDom(snapshot);
+        xpath = XPathFactory.newInstance().newXPath();
+
+        int xpathMatches = xpath().getLength();
+        int cssMatches = css().size();
+        if (xpathMatches != cssMatches) {
+            System.out.println("⚠ " + locator + ": XPath matches " + xpathMatches + ", CSS [" + css + "] matches "
+                    + cssMatches + " in " + snapshot);
+        }
+    }
+
+    @Benchmark
+    public NodeList xpath() throws XPathExpressionException {
+        return (NodeList) xpath.evaluate(expression, dom, XPathConstants.NODESET);
+    }
+
+    @Benchmark
+    public Elements css() {
+        return html.select(css);
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.benchmarks;
+
+import org.jsoup.Jsoup;
+import org.jsoup.helper.W3CDom;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Loads the recorded HTML snapshots the benchmarks run against
+ * Each snapshot is looked up in, in order:
+ *   -Dsnapshots.dir=...                 explicit directory
+ *   target/dom-snapshots                recorded by mvn test -Ddom.snapshots=true
+ *   src/test/resources/dom-snapshots    seed pages checked into the repository
+ * Paths are tried relative to the working directory and to its parent, so the
+ * benchmarks can be started from the repository root or from benchmarks/.
+ */
+public final class DomSnapshots {
+
+    public static final String SIGNIN = "signin";
+    public static final String DASHBOARD = "dashboard";
+    public static final String USER_LIST = "user-list";
+    public static final String ADD_USER = "add-user";
+    public static final String OVERLAYS = "overlays";
+
+    private DomSnapshots() {
+    }
+
+    /**
+     * Find the snapshot file to use
+     * @param name Snapshot name, e.g. "user-list"
+     * @return Path of the first matching file
+     * @throws IllegalStateException if no directory contains the snapshot
+     */
+    public static Path locate(String name) {
+        String fileName = name + ".html";
+        List<Path> tried = new ArrayList<>();
+        for (Path dir : searchPath()) {
+            Path candidate = dir.resolve(fileName);
+            if (Files.isRegularFile(candidate)) {
+                return candidate;
+            }
+            tried.add(candidate.toAbsolutePath().normalize());
+        }
+        throw new IllegalStateException("DOM snapshot '" + name + "' not found, tried " + tried);
+    }
+
+    /**
+     * Parse a snapshot for CSS selector evaluation
+     * @param name Snapshot name
+     * @return jsoup document
+     */
+    public static org.jsoup.nodes.Document loadHtml(String name) {
+        Path file = locate(name);
+        try {
+            return Jsoup.parse(new String(Files.readAllBytes(file), StandardCharsets.UTF_8), file.toUri().toString());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read DOM snapshot " + file, e);
+        }
+    }
+
+    /**
+     * Parse a snapshot for XPath evaluation
+     * Namespaces are dropped so expressions like //input match as they do in the browser
+     * @param name Snapshot name
+     * @return W3C DOM document
+     */
+    public static org.w3c.dom.Document loadDom(String name) {
+        return new W3CDom().namespaceAware(false).fromJsoup(loadHtml(name));
+    }
+
+    private static List<Path> searchPath() {
+        List<Path> dirs = new ArrayList<>();
+        String explicit = System.getProperty("snapshots.dir");
+        if (explicit != null && !explicit.trim().isEmpty()) {
+            dirs.add(Paths.get(explicit.trim()));
+        }
+        for (String base : new String[]{".", ".."}) {
+            dirs.add(Paths.get(base, "target", "dom-snapshots"));
+            dirs.add(Paths.get(base, "src", "test", "resources", "dom-snapshots"));
+        }
+        return dirs;
+    }
+}
@@ -0,0 +1,167 @@
+package org.example.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Document;
+import org.w3c.dom.NodeList;
+
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of evaluating each Locators constant against its page snapshot
+ * The expression is compiled and evaluated on every call, as the browser does
+ * for each findElement, so whole-document scans (//*[contains(text(),...)])
+ * and unions show up next to anchored lookups. Absolute numbers come from the
+ * JDK XPath engine, not the browser; compare locators with each other.
+ *
+ *   java -jar target/benchmarks.jar LocatorBenchmark -p locator=AddUserPage.SAVE_BUTTON
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LocatorBenchmark {
+
+    // Keep in sync with Locators; setup fails on names that no longer exist
+    @Param({
+            "LoginPage.USERNAME_FIELD",
+            "LoginPage.PASSWORD_FIELD",
+            "LoginPage.USERNAME_BY_LABEL",
+            "LoginPage.PASSWORD_BY_LABEL",
+            "LoginPage.LOGIN_BUTTON",
+            "LoginPage.LOGIN_BUTTON_ALT",
+            "LoginPage.ERROR_MESSAGE",
+            "LoginPage.ERROR_CONTAINER",
+            "LoginPage.ANY_ERROR",
+            "LoaderPage.LOADER_IMAGE",
+            "LoaderPage.LOADER_CONTAINER",
+            "DashboardPage.AGRIGEN_LOGO",
+            "DashboardPage.USER_NAME",
+            "DashboardPage.USER_SHORT_NAME",
+            "DashboardPage.USER_AVATAR",
+            "DashboardPage.GENERAL_MENU",
+            "DashboardPage.OPERATION_ENTITY",
+            "DashboardPage.ESTATE_MANAGEMENT",
+            "DashboardPage.USER_MANAGEMENT",
+            "DashboardPage.CUSTOMER_MANAGEMENT",
+            "DashboardPage.EMPLOYEE_MANAGEMENT",
+            "DashboardPage.MASTER_MENU",
+            "DashboardPage.STATUTORY_MENU",
+            "DashboardPage.LEAVE_MANAGEMENT",
+            "DashboardPage.NOTIFICATION_ICON",
+            "DashboardPage.SETTINGS_ICON",
+            "UserManagementPage.PAGE_TITLE",
+            "UserManagementPage.USER_MENU",
+            "UserManagementPage.USER_MANAGEMENT_MENU",
+            "UserManagementPage.GROUP_DROPDOWN",
+            "UserManagementPage.ESTATE_DROPDOWN",
+            "UserManagementPage.ADD_USER_BUTTON",
+            "UserManagementPage.SEARCH_BOX",
+            "UserManagementPage.SEARCH_ICON",
+            "UserManagementPage.CLEAR_SEARCH",
+            "UserManagementPage.USERNAME_HEADER",
+            "UserManagementPage.ROLE_NAME_HEADER",
+            "UserManagementPage.FIRST_NAME_HEADER",
+            "UserManagementPage.LAST_NAME_HEADER",
+            "UserManagementPage.STATUS_HEADER",
+            "UserManagementPage.ACTIONS_HEADER",
+            "UserManagementPage.TABLE_ROWS",
+            "UserManagementPage.FIRST_ROW",
+            "UserManagementPage.USERNAME_CELL",
+            "UserManagementPage.ROLE_NAME_CELL",
+            "UserManagementPage.FIRST_NAME_CELL",
+            "UserManagementPage.LAST_NAME_CELL",
+            "UserManagementPage.STATUS_ACTIVE",
+            "UserManagementPage.EDIT_BUTTON",
+            "UserManagementPage.DELETE_BUTTON",
+            "UserManagementPage.ROWS_PER_PAGE",
+            "UserManagementPage.PAGINATION_INFO",
+            "UserManagementPage.FIRST_PAGE_BUTTON",
+            "UserManagementPage.PREVIOUS_PAGE_BUTTON",
+            "UserManagementPage.NEXT_PAGE_BUTTON",
+            "UserManagementPage.LAST_PAGE_BUTTON",
+            "AddUserPage.PAGE_TITLE",
+            "AddUserPage.BACK_BUTTON",
+            "AddUserPage.GROUP_LABEL",
+            "AddUserPage.GROUP_DROPDOWN",
+            "AddUserPage.GROUP_INPUT",
+            "AddUserPage.ESTATE_LABEL",
+            "AddUserPage.ESTATE_DROPDOWN",
+            "AddUserPage.ESTATE_INPUT",
+            "AddUserPage.FIRST_NAME_LABEL",
+            "AddUserPage.FIRST_NAME_INPUT",
+            "AddUserPage.LAST_NAME_LABEL",
+            "AddUserPage.LAST_NAME_INPUT",
+            "AddUserPage.USER_NAME_LABEL",
+            "AddUserPage.USER_NAME_INPUT",
+            "AddUserPage.PASSWORD_LABEL",
+            "AddUserPage.PASSWORD_INPUT",
+            "AddUserPage.PASSWORD_VISIBILITY_TOGGLE",
+            "AddUserPage.CONFIRM_PASSWORD_LABEL",
+            "AddUserPage.CONFIRM_PASSWORD_INPUT",
+            "AddUserPage.CONFIRM_PASSWORD_VISIBILITY_TOGGLE",
+            "AddUserPage.ROLE_LABEL",
+            "AddUserPage.ROLE_DROPDOWN",
+            "AddUserPage.ROLE_INPUT",
+            "AddUserPage.ACTIVE_TOGGLE",
+            "AddUserPage.ACTIVE_LABEL",
+            "AddUserPage.LOCKED_TOGGLE",
+            "AddUserPage.LOCKED_LABEL",
+            "AddUserPage.SAVE_BUTTON",
+            "AddUserPage.REQUIRED_FIELD_ERROR",
+            "AddUserPage.PASSWORD_MISMATCH_ERROR",
+            "AddUserPage.SUCCESS_MESSAGE",
+            "AddUserPage.ERROR_MESSAGE",
+            "Common.LOADING_SPINNER",
+            "Common.CIRCULAR_PROGRESS",
+            "Common.SUCCESS_MESSAGE",
+            "Common.SUCCESS_SNACKBAR",
+            "Common.ERROR_POPUP",
+            "Common.ERROR_SNACKBAR",
+            "Common.SUBMIT_BUTTON",
+            "Common.CANCEL_BUTTON",
+            "Common.CLOSE_BUTTON",
+            "Common.OK_BUTTON",
+            "Common.YES_BUTTON",
+            "Common.NO_BUTTON",
+            "Common.CONFIRM_DIALOG",
+            "Common.DIALOG_TITLE",
+            "Common.DIALOG_CONTENT",
+            "Common.DROPDOWN_OPTION"
+    })
+    public String locator;
+
+    private Document dom;
+    private String expression;
+    private XPath xpath;
+
+    @Setup
+    public void setup() throws XPathExpressionException {
+        expression = LocatorCatalog.xpath(locator);
+        dom = DomSnapshots.loadDom(LocatorCatalog.snapshotFor(locator));
+        xpath = XPathFactory.newInstance().newXPath();
+
+        int matches = evaluate().getLength();
+        System.out.println(locator + " -> " + matches + " match(es) in " + LocatorCatalog.snapshotFor(locator));
+    }
+
+    @Benchmark
+    public NodeList evaluate() throws XPathExpressionException {
+        return (NodeList) xpath.evaluate(expression, dom, XPathConstants.NODESET);
+    }
+}
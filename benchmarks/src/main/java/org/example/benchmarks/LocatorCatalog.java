@@ -0,0 +1,172 @@
+package org.example.benchmarks;
+
+import org.example.Locators.Locators;
+import org.openqa.selenium.By;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Every By constant in Locators, keyed as "NestedClass.FIELD"
+ * (e.g. "UserManagementPage.SEARCH_BOX"), plus the snapshot it is evaluated
+ * against and the CSS selectors proposed as replacements.
+ * LoaderPage and Common run against the overlays seed page, the add-user form
+ * with the loader, snackbars, an open dialog and an open menu on top of it.
+ */
+public final class LocatorCatalog {
+
+    private static final Map<String, By> LOCATORS = scan();
+
+    // Page group -> snapshot the locators of that group are meant for
+    private static final Map<String, String> SNAPSHOTS = new LinkedHashMap<>();
+
+    // Proposed CSS replacements; only locators CSS can express without text matching
+    private static final Map<String, String> CSS_EQUIVALENTS = new LinkedHashMap<>();
+
+    static {
+        SNAPSHOTS.put("LoginPage", DomSnapshots.SIGNIN);
+        SNAPSHOTS.put("DashboardPage", DomSnapshots.DASHBOARD);
+        SNAPSHOTS.put("UserManagementPage", DomSnapshots.USER_LIST);
+        SNAPSHOTS.put("AddUserPage", DomSnapshots.ADD_USER);
+        SNAPSHOTS.put("LoaderPage", DomSnapshots.OVERLAYS);
+        SNAPSHOTS.put("Common", DomSnapshots.OVERLAYS);
+
+        CSS_EQUIVALENTS.put("LoginPage.USERNAME_FIELD", "input[placeholder='Username']");
+        CSS_EQUIVALENTS.put("LoginPage.PASSWORD_FIELD", "input[type='password']");
+        CSS_EQUIVALENTS.put("LoaderPage.LOADER_IMAGE", "img[src*='loader'], img[alt*='loading']");
+        CSS_EQUIVALENTS.put("LoaderPage.LOADER_CONTAINER", "[class*='loader']");
+        CSS_EQUIVALENTS.put("DashboardPage.AGRIGEN_LOGO", "img[src*='AgriGEN.png']");
+        CSS_EQUIVALENTS.put("DashboardPage.USER_AVATAR", "img[alt='user-avatar'], [class*='avatar']");
+        CSS_EQUIVALENTS.put("DashboardPage.NOTIFICATION_ICON", "[class*='notification'], [title='Notifications']");
+        CSS_EQUIVALENTS.put("DashboardPage.SETTINGS_ICON", "[class*='settings'], [title='Settings']");
+        CSS_EQUIVALENTS.put("UserManagementPage.SEARCH_BOX", "input[placeholder='Search'], input[type='search']");
+        CSS_EQUIVALENTS.put("UserManagementPage.SEARCH_ICON", "[class*='search']");
+        CSS_EQUIVALENTS.put("UserManagementPage.CLEAR_SEARCH", "button[aria-label='Clear'], [class*='clear']");
+        CSS_EQUIVALENTS.put("UserManagementPage.TABLE_ROWS", "tbody > tr");
+        CSS_EQUIVALENTS.put("UserManagementPage.FIRST_ROW", "tbody > tr:nth-of-type(1)");
+        CSS_EQUIVALENTS.put("UserManagementPage.EDIT_BUTTON", "button[title='Edit'], [class*='edit']");
+        CSS_EQUIVALENTS.put("UserManagementPage.DELETE_BUTTON", "button[title='Delete'], [class*='delete']");
+        CSS_EQUIVALENTS.put("UserManagementPage.FIRST_PAGE_BUTTON", "button[aria-label='Go to first page']");
+        CSS_EQUIVALENTS.put("UserManagementPage.PREVIOUS_PAGE_BUTTON", "button[aria-label='Go to previous page']");
+        CSS_EQUIVALENTS.put("UserManagementPage.NEXT_PAGE_BUTTON", "button[aria-label='Go to next page']");
+        CSS_EQUIVALENTS.put("UserManagementPage.LAST_PAGE_BUTTON", "button[aria-label='Go to last page']");
+        CSS_EQUIVALENTS.put("AddUserPage.FIRST_NAME_INPUT", "input[name='firstName']");
+        CSS_EQUIVALENTS.put("AddUserPage.LAST_NAME_INPUT", "input[name='lastName']");
+        CSS_EQUIVALENTS.put("AddUserPage.USER_NAME_INPUT", "input[name='userName']");
+        CSS_EQUIVALENTS.put("AddUserPage.PASSWORD_INPUT", "input[name='password']");
+        CSS_EQUIVALENTS.put("AddUserPage.CONFIRM_PASSWORD_INPUT", "input[name='confirmPassword']");
+        CSS_EQUIVALENTS.put("AddUserPage.PASSWORD_VISIBILITY_TOGGLE",
+                "button[aria-label='toggle password visibility'], button[class*='password-toggle']");
+        CSS_EQUIVALENTS.put("AddUserPage.CONFIRM_PASSWORD_VISIBILITY_TOGGLE",
+                "button[aria-label='toggle confirm password visibility']");
+        CSS_EQUIVALENTS.put("AddUserPage.ACTIVE_TOGGLE", "span.MuiSwitch-root:has(> input[name='active'])");
+        CSS_EQUIVALENTS.put("AddUserPage.LOCKED_TOGGLE", "span.MuiSwitch-root:has(> input[name='locked'])");
+        CSS_EQUIVALENTS.put("AddUserPage.SAVE_BUTTON", "button[type='submit']");
+        CSS_EQUIVALENTS.put("AddUserPage.SUCCESS_MESSAGE", "[class*='success']");
+        CSS_EQUIVALENTS.put("AddUserPage.ERROR_MESSAGE", "[class*='error']");
+        CSS_EQUIVALENTS.put("Common.LOADING_SPINNER", "div[class*='loading'], div[class*='spinner']");
+        CSS_EQUIVALENTS.put("Common.CIRCULAR_PROGRESS", "[class*='MuiCircularProgress']");
+        CSS_EQUIVALENTS.put("Common.SUCCESS_SNACKBAR", "[class*='MuiSnackbar'][class*='success']");
+        CSS_EQUIVALENTS.put("Common.ERROR_POPUP", "[class*='error'], [class*='alert-danger']");
+        CSS_EQUIVALENTS.put("Common.ERROR_SNACKBAR", "[class*='MuiSnackbar'][class*='error']");
+        CSS_EQUIVALENTS.put("Common.SUBMIT_BUTTON", "button[type='submit']");
+        CSS_EQUIVALENTS.put("Common.CONFIRM_DIALOG", "div[class*='MuiDialog']");
+        CSS_EQUIVALENTS.put("Common.DIALOG_TITLE", "h2[class*='MuiDialogTitle']");
+        CSS_EQUIVALENTS.put("Common.DIALOG_CONTENT", "div[class*='MuiDialogContent']");
+        CSS_EQUIVALENTS.put("Common.DROPDOWN_OPTION", "li.MuiMenuItem-root");
+    }
+
+    private LocatorCatalog() {
+    }
+
+    /**
+     * @return All locators, in declaration order
+     */
+    public static Map<String, By> all() {
+        return Collections.unmodifiableMap(LOCATORS);
+    }
+
+    /**
+     * @return Proposed CSS selector per locator key
+     */
+    public static Map<String, String> cssEquivalents() {
+        return Collections.unmodifiableMap(CSS_EQUIVALENTS);
+    }
+
+    /**
+     * Look up a locator by key
+     * @param key e.g. "AddUserPage.SAVE_BUTTON"
+     * @return The By constant
+     * @throws IllegalArgumentException if Locators has no such constant
+     */
+    public static By get(String key) {
+        By by = LOCATORS.get(key);
+        if (by == null) {
+            throw new IllegalArgumentException("No locator '" + key + "' in Locators");
+        }
+        return by;
+    }
+
+    /**
+     * Look up the proposed CSS replacement of a locator
+     * @param key Locator key
+     * @return CSS selector
+     * @throws IllegalArgumentException if no replacement is proposed
+     */
+    public static String css(String key) {
+        String css = CSS_EQUIVALENTS.get(key);
+        if (css == null) {
+            throw new IllegalArgumentException("No CSS equivalent proposed for '" + key + "'");
+        }
+        return css;
+    }
+
+    /**
+     * Snapshot a locator is evaluated against
+     * @param key Locator key
+     * @return Snapshot name
+     * @throws IllegalArgumentException for locator groups without a snapshot
+     */
+    public static String snapshotFor(String key) {
+        String group = key.substring(0, key.indexOf('.'));
+        String snapshot = SNAPSHOTS.get(group);
+        if (snapshot == null) {
+            throw new IllegalArgumentException("No snapshot mapped for locator group '" + group + "'");
+        }
+        return snapshot;
+    }
+
+    /**
+     * XPath of a locator
+     * @param key Locator key
+     * @return XPath expression
+     * @throws IllegalArgumentException if the locator is not an XPath
+     */
+    public static String xpath(String key) {
+        String text = get(key).toString();
+        if (!text.startsWith("By.xpath: ")) {
+            throw new IllegalArgumentException("Locator '" + key + "' is not an XPath: " + text);
+        }
+        return text.substring("By.xpath: ".length());
+    }
+
+    private static Map<String, By> scan() {
+        Map<String, By> locators = new LinkedHashMap<>();
+        for (Class<?> group : Locators.class.getDeclaredClasses()) {
+            for (Field field : group.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) || !By.class.isAssignableFrom(field.getType())) {
+                    continue;
+                }
+                try {
+                    locators.put(group.getSimpleName() + "." + field.getName(), (By) field.get(null));
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException("Cannot read " + group.getSimpleName() + "." + field.getName(), e);
+                }
+            }
+        }
+        return locators;
+    }
+}
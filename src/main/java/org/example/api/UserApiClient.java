@@ -0,0 +1,283 @@
+package org.example.api;
+
+import org.example.testdata.LoginTestData;
+import org.example.testdata.UserRecord;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Client for the user-management API, for test preconditions
+ * Creates, looks up and deletes users directly so UI tests only drive the
+ * screen under test. The endpoints below are the ones the stand-in server
+ * serves; other servers need -Dapi.base.url pointing at an equivalent API:
+ *
+ *   POST /api/auth/login                  -> {"token": ..., "user": {...}}
+ *   GET  /api/users?search&group&estate&page&size -> {"total", "page", "size", "rows"}
+ *   POST /api/users, GET|PUT|DELETE /api/users/{username}
+ *
+ * Requests carry "Authorization: Bearer <token>"; an expired token is
+ * refreshed by logging in again once. Users are returned as the API's JSON
+ * objects (username, firstName, lastName, role, group, estate, status,
+ * active, locked).
+ */
+public class UserApiClient {
+
+    // System property with the API root when it is not the stand-in server
+    public static final String BASE_URL_PROPERTY = "api.base.url";
+
+    private static final Json JSON = new Json();
+    private static final Duration TIMEOUT = Duration.ofSeconds(15);
+
+    private final String baseUrl;
+    private final String username;
+    private final String password;
+    private final HttpClient http;
+    private volatile String token;
+
+    /**
+     * @param baseUrl Server root, e.g. LoginTestData.BASE_URL
+     * @param username Login of an account allowed to manage users
+     * @param password Password of that account
+     */
+    public UserApiClient(String baseUrl, String username, String password) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.username = username;
+        this.password = password;
+        this.http = HttpClient.newBuilder().connectTimeout(TIMEOUT).build();
+    }
+
+    /**
+     * Client for the configured server with the default test account
+     * @return Client for -Dapi.base.url (default: LoginTestData.BASE_URL) and VALID_USERNAME
+     */
+    public static UserApiClient forTestAccount() {
+        return new UserApiClient(System.getProperty(BASE_URL_PROPERTY, LoginTestData.BASE_URL),
+                LoginTestData.VALID_USERNAME, LoginTestData.VALID_PASSWORD);
+    }
+
+    /**
+     * Log in and keep the session token for later requests
+     * @return Session token (also the value of the agrigen_session cookie)
+     * @throws IllegalStateException if the login is rejected
+     */
+    public String login() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("username", username);
+        body.put("password", password);
+        Response response = send("POST", "/api/auth/login", body, false);
+        if (response.status != 200) {
+            throw response.failure("POST /api/auth/login");
+        }
+        Object received = response.json().get("token");
+        if (received == null) {
+            throw new IllegalStateException("POST /api/auth/login returned no token");
+        }
+        token = received.toString();
+        return token;
+    }
+
+    /**
+     * Create a user
+     * @param user User to create
+     * @return Created user as returned by the API
+     * @throws IllegalStateException if the server rejects it (e.g. 409 when the username exists)
+     */
+    public Map<String, Object> createUser(UserRecord user) {
+        Response response = send("POST", "/api/users", toJson(user), true);
+        if (response.status != 201 && response.status != 200) {
+            throw response.failure("POST /api/users");
+        }
+        return response.json();
+    }
+
+    /**
+     * Update a user's fields; the password is kept when the record's password is empty
+     * @param user New values, matched by user name
+     * @return Updated user as returned by the API
+     * @throws IllegalStateException if the user does not exist or the update is rejected
+     */
+    public Map<String, Object> updateUser(UserRecord user) {
+        Response response = send("PUT", "/api/users/" + encode(user.getUserName()), toJson(user), true);
+        if (response.status != 200) {
+            throw response.failure("PUT /api/users/" + user.getUserName());
+        }
+        return response.json();
+    }
+
+    /**
+     * Look up one user
+     * @param userName User name
+     * @return User as returned by the API, or null if there is no such user
+     */
+    public Map<String, Object> getUser(String userName) {
+        Response response = send("GET", "/api/users/" + encode(userName), null, true);
+        if (response.status == 404) {
+            return null;
+        }
+        if (response.status != 200) {
+            throw response.failure("GET /api/users/" + userName);
+        }
+        return response.json();
+    }
+
+    /**
+     * Check if a user exists
+     * @param userName User name
+     * @return true if the API knows the user
+     */
+    public boolean userExists(String userName) {
+        return getUser(userName) != null;
+    }
+
+    /**
+     * Search users, one page at a time
+     * @param search Text matched against name, user name and role (null for all)
+     * @param group Group filter (null for all)
+     * @param estate Estate filter (null for all)
+     * @param page 0-based page
+     * @param size Page size
+     * @return Users on the requested page
+     */
+    @SuppressWarnings("unchecked")
+    public List<Map<String, Object>> findUsers(String search, String group, String estate, int page, int size) {
+        StringBuilder path = new StringBuilder("/api/users?page=").append(page).append("&size=").append(size);
+        appendParameter(path, "search", search);
+        appendParameter(path, "group", group);
+        appendParameter(path, "estate", estate);
+        Response response = send("GET", path.toString(), null, true);
+        if (response.status != 200) {
+            throw response.failure("GET " + path);
+        }
+        Object rows = response.json().get("rows");
+        List<Map<String, Object>> users = new ArrayList<>();
+        if (rows instanceof List) {
+            for (Object row : (List<Object>) rows) {
+                users.add((Map<String, Object>) row);
+            }
+        }
+        return users;
+    }
+
+    /**
+     * Delete a user
+     * @param userName User name
+     * @return true if deleted, false if there was no such user
+     */
+    public boolean deleteUser(String userName) {
+        Response response = send("DELETE", "/api/users/" + encode(userName), null, true);
+        if (response.status == 404) {
+            return false;
+        }
+        if (response.status != 204 && response.status != 200) {
+            throw response.failure("DELETE /api/users/" + userName);
+        }
+        return true;
+    }
+
+    private Response send(String method, String path, Object body, boolean authenticated) {
+        if (authenticated && token == null) {
+            login();
+        }
+        Response response = execute(method, path, body, authenticated);
+        if (authenticated && response.status == 401) {
+            // Token expired or server restarted: log in again once
+            login();
+            response = execute(method, path, body, true);
+        }
+        return response;
+    }
+
+    private Response execute(String method, String path, Object body, boolean authenticated) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(TIMEOUT)
+                .header("Accept", "application/json")
+                .method(method, body == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(JSON.toJson(body), StandardCharsets.UTF_8));
+        if (body != null) {
+            request.header("Content-Type", "application/json");
+        }
+        if (authenticated) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        try {
+            HttpResponse<String> response = http.send(request.build(), HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+            return new Response(response.statusCode(), response.body());
+        } catch (IOException e) {
+            throw new IllegalStateException(method + " " + path + " failed: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(method + " " + path + " interrupted", e);
+        }
+    }
+
+    private static Map<String, Object> toJson(UserRecord user) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("username", user.getUserName());
+        json.put("password", user.getPassword());
+        json.put("firstName", user.getFirstName());
+        json.put("lastName", user.getLastName());
+        json.put("role", user.getRole());
+        json.put("group", user.getGroup());
+        json.put("estate", user.getEstate());
+        json.put("active", user.isActive());
+        json.put("locked", user.isLocked());
+        return json;
+    }
+
+    private static void appendParameter(StringBuilder path, String name, String value) {
+        if (value != null && !value.isEmpty()) {
+            path.append('&').append(name).append('=').append(encode(value));
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+
+    /**
+     * Status and body of one API response
+     */
+    private static final class Response {
+        private final int status;
+        private final String body;
+
+        private Response(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        private Map<String, Object> json() {
+            if (body == null || body.trim().isEmpty()) {
+                return Collections.emptyMap();
+            }
+            return JSON.toType(body, Json.MAP_TYPE);
+        }
+
+        private IllegalStateException failure(String request) {
+            String error = body;
+            try {
+                Object message = json().get("error");
+                if (message != null) {
+                    error = message.toString();
+                }
+            } catch (RuntimeException e) {
+                // Not JSON, report the raw body
+            }
+            return new IllegalStateException(request + " returned " + status + ": " + error);
+        }
+    }
+}
@@ -1,6 +1,13 @@
 package org.example.pages;
 
 import org.example.Locators.Locators;
+import org.example.pages.components.MuiSelect;
+import org.example.utils.BatchFormFiller;
+import org.example.utils.LocatorResolver;
+import org.example.utils.PageTimings;
+import org.example.utils.Tracer;
+import org.example.utils.UiWait;
+import org.example.utils.WebVitals;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
@@ -9,13 +16,25 @@ import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
+import java.util.List;
 
 /**
  * Page Object Model for Add User Page
+ *
+ * fillUserForm picks the dropdowns through MuiSelect (cached options, one call
+ * per pick), sets the text fields and switches in one script call
+ * (BatchFormFiller) and only types the fields that rejected programmatic
+ * input. To always type field by field:
+ *   -Dform.fill=typed
  */
 public class AddUserPage {
+    private static final Duration ELEMENT_TIMEOUT = Duration.ofSeconds(15);
+
     private final WebDriver driver;
     private final WebDriverWait wait;
+    private final UiWait uiWait;
+    // Resolves fallback/union locators in one round trip per poll, via the locator cache
+    private final LocatorResolver resolver;
 
     // Locators
     private final By pageTitle = Locators.AddUserPage.PAGE_TITLE;
@@ -32,10 +51,20 @@ public class AddUserPage {
     private final By lockedToggle = Locators.AddUserPage.LOCKED_TOGGLE;
     private final By saveButton = Locators.AddUserPage.SAVE_BUTTON;
 
+    // Dropdowns; options are read once per session and picked by index
+    private final MuiSelect groupSelect;
+    private final MuiSelect estateSelect;
+    private final MuiSelect roleSelect;
+
     // Constructor
     public AddUserPage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(15));
+        this.wait = new WebDriverWait(driver, ELEMENT_TIMEOUT);
+        this.uiWait = new UiWait(driver);
+        this.resolver = new LocatorResolver(driver);
+        this.groupSelect = new MuiSelect(driver, "AddUserPage.groupDropdown", groupDropdown);
+        this.estateSelect = new MuiSelect(driver, "AddUserPage.estateDropdown", estateDropdown);
+        this.roleSelect = new MuiSelect(driver, "AddUserPage.roleDropdown", roleDropdown);
     }
 
     /**
@@ -56,12 +85,14 @@ public class AddUserPage {
      * Wait for page to load completely
      */
     public void waitForPageLoad() {
-        try {
-            wait.until(ExpectedConditions.visibilityOfElementLocated(pageTitle));
-            wait.until(ExpectedConditions.visibilityOfElementLocated(saveButton));
-            Thread.sleep(1000); // Allow UI to settle
-        } catch (Exception e) {
-            System.out.println("Page load wait completed with exception: " + e.getMessage());
+        try (Tracer.Span span = Tracer.span("AddUserPage.waitForPageLoad")) {
+            try {
+                wait.until(ExpectedConditions.visibilityOfElementLocated(pageTitle));
+                resolver.waitForElement("AddUserPage.saveButton", ELEMENT_TIMEOUT, saveButton);
+                uiWait.forQuiet(); // Allow UI to settle
+            } catch (Exception e) {
+                System.out.println("Page load wait completed with exception: " + e.getMessage());
+            }
         }
     }
 
@@ -70,7 +101,8 @@ public class AddUserPage {
      */
     public void clickBack() {
         try {
-            WebElement button = wait.until(ExpectedConditions.elementToBeClickable(backButton));
+            WebElement button = resolver.waitForElement("AddUserPage.backButton", ELEMENT_TIMEOUT, backButton);
+            String previousUrl = driver.getCurrentUrl();
 
             try {
                 button.click();
@@ -79,7 +111,7 @@ public class AddUserPage {
             }
 
             System.out.println("✓ Clicked Back button");
-            Thread.sleep(1000);
+            uiWait.forNavigation(previousUrl);
         } catch (Exception e) {
             System.out.println("✗ Failed to click Back button: " + e.getMessage());
         }
@@ -90,25 +122,15 @@ public class AddUserPage {
      * @param groupName Name of the group to select
      */
     public void selectGroup(String groupName) {
-        try {
-            WebElement dropdown = wait.until(ExpectedConditions.elementToBeClickable(groupDropdown));
-
+        try (Tracer.Span span = Tracer.span("AddUserPage.selectGroup")) {
+            span.arg("groupName", groupName);
             try {
-                dropdown.click();
+                groupSelect.select(groupName);
+
+                System.out.println("✓ Selected group: " + groupName);
             } catch (Exception e) {
-                ((JavascriptExecutor) driver).executeScript("arguments[0].click();", dropdown);
+                System.out.println("✗ Failed to select group: " + e.getMessage());
             }
-
-            Thread.sleep(500);
-
-            By optionLocator = By.xpath("//li[contains(@class,'MuiMenuItem-root') and text()='" + groupName + "']");
-            WebElement option = wait.until(ExpectedConditions.elementToBeClickable(optionLocator));
-            option.click();
-
-            System.out.println("✓ Selected group: " + groupName);
-            Thread.sleep(300);
-        } catch (Exception e) {
-            System.out.println("✗ Failed to select group: " + e.getMessage());
         }
     }
 
@@ -117,35 +139,33 @@ public class AddUserPage {
      * @param estateName Name of the estate to select
      */
     public void selectEstate(String estateName) {
-        try {
-            WebElement dropdown = wait.until(ExpectedConditions.elementToBeClickable(estateDropdown));
-
+        try (Tracer.Span span = Tracer.span("AddUserPage.selectEstate")) {
+            span.arg("estateName", estateName);
             try {
-                dropdown.click();
+                estateSelect.select(estateName);
+
+                System.out.println("✓ Selected estate: " + estateName);
             } catch (Exception e) {
-                ((JavascriptExecutor) driver).executeScript("arguments[0].click();", dropdown);
+                System.out.println("✗ Failed to select estate: " + e.getMessage());
             }
-
-            Thread.sleep(500);
-
-            By optionLocator = By.xpath("//li[contains(@class,'MuiMenuItem-root') and text()='" + estateName + "']");
-            WebElement option = wait.until(ExpectedConditions.elementToBeClickable(optionLocator));
-            option.click();
-
-            System.out.println("✓ Selected estate: " + estateName);
-            Thread.sleep(300);
-        } catch (Exception e) {
-            System.out.println("✗ Failed to select estate: " + e.getMessage());
         }
     }
 
+    /**
+     * Get the estates offered by the estate dropdown
+     * @return Option texts, read once per session
+     */
+    public List<String> getEstateOptions() {
+        return estateSelect.getOptions();
+    }
+
     /**
      * Enter first name
      * @param firstName First name to enter
      */
     public void enterFirstName(String firstName) {
         try {
-            WebElement input = wait.until(ExpectedConditions.visibilityOfElementLocated(firstNameInput));
+            WebElement input = resolver.waitForElement("AddUserPage.firstNameInput", ELEMENT_TIMEOUT, firstNameInput);
             input.clear();
             input.sendKeys(firstName);
 
@@ -161,7 +181,7 @@ public class AddUserPage {
      */
     public void enterLastName(String lastName) {
         try {
-            WebElement input = wait.until(ExpectedConditions.visibilityOfElementLocated(lastNameInput));
+            WebElement input = resolver.waitForElement("AddUserPage.lastNameInput", ELEMENT_TIMEOUT, lastNameInput);
             input.clear();
             input.sendKeys(lastName);
 
@@ -177,7 +197,7 @@ public class AddUserPage {
      */
     public void enterUserName(String userName) {
         try {
-            WebElement input = wait.until(ExpectedConditions.visibilityOfElementLocated(userNameInput));
+            WebElement input = resolver.waitForElement("AddUserPage.userNameInput", ELEMENT_TIMEOUT, userNameInput);
             input.clear();
             input.sendKeys(userName);
 
@@ -193,7 +213,7 @@ public class AddUserPage {
      */
     public void enterPassword(String password) {
         try {
-            WebElement input = wait.until(ExpectedConditions.visibilityOfElementLocated(passwordInput));
+            WebElement input = resolver.waitForElement("AddUserPage.passwordInput", ELEMENT_TIMEOUT, passwordInput);
             input.clear();
             input.sendKeys(password);
 
@@ -209,7 +229,7 @@ public class AddUserPage {
      */
     public void enterConfirmPassword(String confirmPassword) {
         try {
-            WebElement input = wait.until(ExpectedConditions.visibilityOfElementLocated(confirmPasswordInput));
+            WebElement input = resolver.waitForElement("AddUserPage.confirmPasswordInput", ELEMENT_TIMEOUT, confirmPasswordInput);
             input.clear();
             input.sendKeys(confirmPassword);
 
@@ -224,25 +244,15 @@ public class AddUserPage {
      * @param roleName Name of the role to select
      */
     public void selectRole(String roleName) {
-        try {
-            WebElement dropdown = wait.until(ExpectedConditions.elementToBeClickable(roleDropdown));
-
+        try (Tracer.Span span = Tracer.span("AddUserPage.selectRole")) {
+            span.arg("roleName", roleName);
             try {
-                dropdown.click();
+                roleSelect.select(roleName);
+
+                System.out.println("✓ Selected role: " + roleName);
             } catch (Exception e) {
-                ((JavascriptExecutor) driver).executeScript("arguments[0].click();", dropdown);
+                System.out.println("✗ Failed to select role: " + e.getMessage());
             }
-
-            Thread.sleep(500);
-
-            By optionLocator = By.xpath("//li[contains(@class,'MuiMenuItem-root') and text()='" + roleName + "']");
-            WebElement option = wait.until(ExpectedConditions.elementToBeClickable(optionLocator));
-            option.click();
-
-            System.out.println("✓ Selected role: " + roleName);
-            Thread.sleep(300);
-        } catch (Exception e) {
-            System.out.println("✗ Failed to select role: " + e.getMessage());
         }
     }
 
@@ -257,7 +267,7 @@ public class AddUserPage {
 
             if ((enable && !isChecked) || (!enable && isChecked)) {
                 toggle.click();
-                Thread.sleep(300);
+                uiWait.until(d -> toggle.isSelected() == enable, "toggle to switch");
                 System.out.println("✓ Active toggle set to: " + enable);
             } else {
                 System.out.println("✓ Active toggle already at: " + enable);
@@ -278,7 +288,7 @@ public class AddUserPage {
 
             if ((enable && !isChecked) || (!enable && isChecked)) {
                 toggle.click();
-                Thread.sleep(300);
+                uiWait.until(d -> toggle.isSelected() == enable, "toggle to switch");
                 System.out.println("✓ Locked toggle set to: " + enable);
             } else {
                 System.out.println("✓ Locked toggle already at: " + enable);
@@ -292,23 +302,26 @@ public class AddUserPage {
      * Click Save button
      */
     public void clickSave() {
-        try {
-            WebElement button = wait.until(ExpectedConditions.elementToBeClickable(saveButton));
+        try (Tracer.Span span = Tracer.span("AddUserPage.clickSave")) {
+            try {
+                WebElement button = resolver.waitForElement("AddUserPage.saveButton", ELEMENT_TIMEOUT, saveButton);
 
-            // Scroll to button
-            ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);", button);
-            Thread.sleep(300);
+                // Scroll to button (scrollIntoView is synchronous, no settle time needed)
+                ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block: 'center'});", button);
 
-            try {
-                button.click();
+                PageTimings.begin(driver, "saveUser");
+                try {
+                    button.click();
+                } catch (Exception e) {
+                    ((JavascriptExecutor) driver).executeScript("arguments[0].click();", button);
+                }
+
+                System.out.println("✓ Clicked Save button");
+                uiWait.forQuiet(); // Wait for save operation
+                PageTimings.end(driver, "saveUser");
             } catch (Exception e) {
-                ((JavascriptExecutor) driver).executeScript("arguments[0].click();", button);
+                System.out.println("✗ Failed to click Save button: " + e.getMessage());
             }
-
-            System.out.println("✓ Clicked Save button");
-            Thread.sleep(1500); // Wait for save operation
-        } catch (Exception e) {
-            System.out.println("✗ Failed to click Save button: " + e.getMessage());
         }
     }
 
@@ -328,14 +341,93 @@ public class AddUserPage {
     public void fillUserForm(String group, String estate, String firstName, String lastName,
                              String userName, String password, String confirmPassword,
                              String role, boolean isActive, boolean isLocked) {
+        try (Tracer.Span span = Tracer.span("AddUserPage.fillUserForm")) {
+            span.arg("userName", userName);
+            if ("typed".equalsIgnoreCase(System.getProperty("form.fill"))) {
+                typeUserForm(group, estate, firstName, lastName, userName, password, confirmPassword, role, isActive, isLocked);
+                return;
+            }
+
+            selectGroup(group);
+            selectEstate(estate);
+            selectRole(role);
+
+            List<String> rejected;
+            try {
+                rejected = new BatchFormFiller(driver)
+                        .text("AddUserPage.firstNameInput", firstNameInput, firstName)
+                        .text("AddUserPage.lastNameInput", lastNameInput, lastName)
+                        .text("AddUserPage.userNameInput", userNameInput, userName)
+                        .text("AddUserPage.passwordInput", passwordInput, password)
+                        .text("AddUserPage.confirmPasswordInput", confirmPasswordInput, confirmPassword)
+                        .checkbox("AddUserPage.activeToggle", activeToggle, isActive)
+                        .checkbox("AddUserPage.lockedToggle", lockedToggle, isLocked)
+                        .apply();
+            } catch (Exception e) {
+                System.out.println("⚠ Batch form fill failed, typing each field: " + e.getMessage());
+                typeFields(firstName, lastName, userName, password, confirmPassword, isActive, isLocked);
+                return;
+            }
+
+            if (rejected.isEmpty()) {
+                System.out.println("✓ Filled user form fields in one script call");
+                return;
+            }
+
+            // Type only what the batch could not set
+            System.out.println("⚠ Batch form fill skipped " + rejected + ", typing those fields");
+            for (String key : rejected) {
+                switch (key) {
+                    case "AddUserPage.firstNameInput":
+                        enterFirstName(firstName);
+                        break;
+                    case "AddUserPage.lastNameInput":
+                        enterLastName(lastName);
+                        break;
+                    case "AddUserPage.userNameInput":
+                        enterUserName(userName);
+                        break;
+                    case "AddUserPage.passwordInput":
+                        enterPassword(password);
+                        break;
+                    case "AddUserPage.confirmPasswordInput":
+                        enterConfirmPassword(confirmPassword);
+                        break;
+                    case "AddUserPage.activeToggle":
+                        setActiveToggle(isActive);
+                        break;
+                    case "AddUserPage.lockedToggle":
+                        setLockedToggle(isLocked);
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Fill the user form one field at a time, each with its own wait
+     */
+    private void typeUserForm(String group, String estate, String firstName, String lastName,
+                              String userName, String password, String confirmPassword,
+                              String role, boolean isActive, boolean isLocked) {
         selectGroup(group);
         selectEstate(estate);
+        selectRole(role);
+        typeFields(firstName, lastName, userName, password, confirmPassword, isActive, isLocked);
+    }
+
+    /**
+     * Type the text fields and set the switches one at a time, each with its own wait
+     */
+    private void typeFields(String firstName, String lastName, String userName, String password,
+                            String confirmPassword, boolean isActive, boolean isLocked) {
         enterFirstName(firstName);
         enterLastName(lastName);
         enterUserName(userName);
         enterPassword(password);
         enterConfirmPassword(confirmPassword);
-        selectRole(role);
         setActiveToggle(isActive);
         setLockedToggle(isLocked);
     }
@@ -397,6 +489,14 @@ public class AddUserPage {
         return driver.getCurrentUrl();
     }
 
+    /**
+     * Get the Core Web Vitals of the Add User screen
+     * @return LCP, CLS and INP so far, null if the browser cannot report them
+     */
+    public WebVitals.Snapshot getWebVitals() {
+        return WebVitals.read(driver);
+    }
+
     /**
      * Check if Save button is enabled
      * @return true if button is enabled
@@ -433,7 +533,7 @@ public class AddUserPage {
         try {
             WebElement toggle = wait.until(ExpectedConditions.elementToBeClickable(Locators.AddUserPage.PASSWORD_VISIBILITY_TOGGLE));
             toggle.click();
-            Thread.sleep(300);
+            uiWait.forQuiet();
 
             System.out.println("✓ Toggled password visibility");
         } catch (Exception e) {
@@ -448,7 +548,7 @@ public class AddUserPage {
         try {
             WebElement toggle = wait.until(ExpectedConditions.elementToBeClickable(Locators.AddUserPage.CONFIRM_PASSWORD_VISIBILITY_TOGGLE));
             toggle.click();
-            Thread.sleep(300);
+            uiWait.forQuiet();
 
             System.out.println("✓ Toggled confirm password visibility");
         } catch (Exception e) {
@@ -2,8 +2,12 @@ package org.example.pages;
 
 
 import org.example.Locators.Locators;
+import org.example.utils.PageTimings;
+import org.example.utils.Tracer;
+import org.example.utils.WebVitals;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
@@ -13,16 +17,16 @@ import java.time.Duration;
  * Page Object Model for AgriGEN Dashboard Page
  */
 public class DashboardPage {
-    WebDriver driver;
-    WebDriverWait wait;
+    private final WebDriver driver;
+    private final WebDriverWait wait;
 
     // Locators
-    private By agrigenLogo = Locators.DashboardPage.AGRIGEN_LOGO;
-    private By userName = Locators.DashboardPage.USER_NAME;
-    private By generalMenu = Locators.DashboardPage.GENERAL_MENU;
-    private By operationEntity = Locators.DashboardPage.OPERATION_ENTITY;
-    private By estateManagement = Locators.DashboardPage.ESTATE_MANAGEMENT;
-    private By userManagement = Locators.DashboardPage.USER_MANAGEMENT;
+    private final By agrigenLogo = Locators.DashboardPage.AGRIGEN_LOGO;
+    private final By userName = Locators.DashboardPage.USER_NAME;
+    private final By generalMenu = Locators.DashboardPage.GENERAL_MENU;
+    private final By operationEntity = Locators.DashboardPage.OPERATION_ENTITY;
+    private final By estateManagement = Locators.DashboardPage.ESTATE_MANAGEMENT;
+    private final By userManagement = Locators.DashboardPage.USER_MANAGEMENT;
 
     // Constructor
     public DashboardPage(WebDriver driver) {
@@ -91,7 +95,20 @@ public class DashboardPage {
      * Click on User Management
      */
     public void clickUserManagement() {
-        wait.until(ExpectedConditions.elementToBeClickable(userManagement)).click();
+        try (Tracer.Span span = Tracer.span("DashboardPage.clickUserManagement")) {
+            WebElement menuItem = wait.until(ExpectedConditions.elementToBeClickable(userManagement));
+            // Ends when UserManagementPage.waitForPageLoad() sees the page
+            PageTimings.begin(driver, "userManagement");
+            menuItem.click();
+        }
+    }
+
+    /**
+     * Get the Core Web Vitals of the dashboard screen
+     * @return LCP, CLS and INP so far, null if the browser cannot report them
+     */
+    public WebVitals.Snapshot getWebVitals() {
+        return WebVitals.read(driver);
     }
 
     /**
@@ -3,6 +3,9 @@ package org.example.pages;
 
 
 import org.example.Locators.Locators;
+import org.example.utils.LocatorResolver;
+import org.example.utils.PageTimings;
+import org.example.utils.Tracer;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
@@ -18,8 +21,9 @@ import java.time.Duration;
  * Uses centralized locators from Locators class
  */
 public class LoginPage {
-    WebDriver driver;
-    WebDriverWait wait;
+    private final WebDriver driver;
+    private final WebDriverWait wait;
+    private final LocatorResolver resolver;
 
     // Locators - imported from centralized Locators class
     private final By usernameField = Locators.LoginPage.USERNAME_FIELD;
@@ -32,6 +36,7 @@ public class LoginPage {
         this.driver = driver;
         // Lower the default explicit wait to a pragmatic 10s (keeps responsiveness)
         this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        this.resolver = new LocatorResolver(driver);
     }
 
     /**
@@ -39,72 +44,57 @@ public class LoginPage {
      * @param username Username to enter
      */
     public void enterUsername(String username) {
-        if (username == null) throw new IllegalArgumentException("username cannot be null");
-
-        // Candidate locators to try (primary + fallbacks)
-        By[] candidates = new By[] {
-                usernameField,
-                Locators.LoginPage.USERNAME_BY_LABEL,
-                By.cssSelector("input[name='username']"),
-                By.xpath("//input[contains(translate(@id,'ABCDEFGHIJKLMNOPQRSTUVWXYZ','abcdefghijklmnopqrstuvwxyz'),'user')]")
-        };
-
-        WebElement usernameElement = null;
-        // Use a slightly longer local wait for this commonly flaky element
-        WebDriverWait localWait = new WebDriverWait(driver, Duration.ofSeconds(20));
-
-        for (By by : candidates) {
-            try {
-                // Wait for visibility first, then for clickability
-                usernameElement = localWait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                localWait.until(ExpectedConditions.elementToBeClickable(by));
-                if (usernameElement != null && usernameElement.isDisplayed()) {
-                    break; // found a usable element
-                }
-            } catch (Exception ignored) {
-                usernameElement = null; // try next locator
-            }
-        }
-
-        // Last-resort: try first input in the login form
-        if (usernameElement == null) {
+        try (Tracer.Span span = Tracer.span("LoginPage.enterUsername")) {
+            if (username == null) throw new IllegalArgumentException("username cannot be null");
+
+            // Candidate locators to try (primary + fallbacks, first form input as last resort)
+            By[] candidates = new By[] {
+                    usernameField,
+                    Locators.LoginPage.USERNAME_BY_LABEL,
+                    By.cssSelector("input[name='username']"),
+                    By.xpath("//input[contains(translate(@id,'ABCDEFGHIJKLMNOPQRSTUVWXYZ','abcdefghijklmnopqrstuvwxyz'),'user')]"),
+                    By.xpath("//form//input[1]")
+            };
+
+            // Resolve all candidates in one script call per poll, instead of a full wait per candidate;
+            // the candidate that matched last run is tried first
+            WebElement usernameElement;
             try {
-                usernameElement = localWait.until(ExpectedConditions.visibilityOfElementLocated(By.xpath("//form//input[1]")));
-                try { localWait.until(ExpectedConditions.elementToBeClickable(usernameElement)); } catch (Exception ignored) {}
+                usernameElement = resolver.waitForFirst("LoginPage.username", Duration.ofSeconds(20), candidates).getElement();
             } catch (Exception e) {
                 throw new RuntimeException("Username field not found using known locators", e);
             }
-        }
 
-        // Try clicking to focus and clearing any existing value
-        try { usernameElement.click(); Thread.sleep(100); } catch (Exception ignored) {}
-        try { usernameElement.clear(); } catch (Exception ignored) {}
+            // Try clicking to focus and clearing any existing value
+            try { usernameElement.click(); } catch (Exception ignored) {}
+            try { usernameElement.clear(); } catch (Exception ignored) {}
 
-        // Primary attempt: sendKeys
-        try {
-            usernameElement.sendKeys(username);
-        } catch (Exception e) {
-            // Fallback 1: Actions
+            // Primary attempt: sendKeys
             try {
-                new Actions(driver).moveToElement(usernameElement).click().sendKeys(username).perform();
-            } catch (Exception ignored) {
-                // Fallback 2: JavaScript set value
+                usernameElement.sendKeys(username);
+            } catch (Exception e) {
+                // Fallback 1: Actions
                 try {
-                    ((JavascriptExecutor) driver).executeScript("arguments[0].value = arguments[1]; arguments[0].dispatchEvent(new Event('input'));", usernameElement, username);
-                } catch (Exception finalEx) {
-                    throw new RuntimeException("Failed to enter username", finalEx);
+                    new Actions(driver).moveToElement(usernameElement).click().sendKeys(username).perform();
+                } catch (Exception ignored) {
+                    // Fallback 2: JavaScript set value
+                    try {
+                        ((JavascriptExecutor) driver).executeScript("arguments[0].value = arguments[1]; arguments[0].dispatchEvent(new Event('input'));", usernameElement, username);
+                    } catch (Exception finalEx) {
+                        throw new RuntimeException("Failed to enter username", finalEx);
+                    }
                 }
             }
-        }
 
-        final WebElement finalUsernameElement = usernameElement;
-        final String finalUsername = username;
+            final WebElement finalUsernameElement = usernameElement;
+            final String finalUsername = username;
 
-        // Verify the value was entered (short verification)
-        try {
-            wait.until(d -> finalUsernameElement.getAttribute("value") != null && finalUsernameElement.getAttribute("value").contains(finalUsername));
-        } catch (Exception ignored) {
-            // ignore - some inputs may not reflect immediately
+            // Verify the value was entered (short verification)
+            try {
+                wait.until(d -> finalUsernameElement.getAttribute("value") != null && finalUsernameElement.getAttribute("value").contains(finalUsername));
+            } catch (Exception ignored) {
+                // ignore - some inputs may not reflect immediately
+            }
         }
     }
 
@@ -113,44 +103,45 @@ public class LoginPage {
      * @param password Password to enter
      */
     public void enterPassword(String password) {
+        try (Tracer.Span span = Tracer.span("LoginPage.enterPassword")) {
+            // Wait for visible, NOT clickable
+            WebElement passwordElement =
+                    wait.until(ExpectedConditions.visibilityOfElementLocated(passwordField));
 
-        // Wait for visible, NOT clickable
-        WebElement passwordElement =
-                wait.until(ExpectedConditions.visibilityOfElementLocated(passwordField));
-
-        try { passwordElement.click(); Thread.sleep(100); } catch (Exception ignored) {}
-        try { passwordElement.clear(); } catch (Exception ignored) {}
+            try { passwordElement.click(); } catch (Exception ignored) {}
+            try { passwordElement.clear(); } catch (Exception ignored) {}
 
-        // Primary: sendKeys
-        try {
-            passwordElement.sendKeys(password);
-        } catch (Exception e) {
-            // Fallback: Actions
+            // Primary: sendKeys
             try {
-                new Actions(driver).moveToElement(passwordElement).click().sendKeys(password).perform();
-            } catch (Exception ignored) {
-                // Last resort: JS
+                passwordElement.sendKeys(password);
+            } catch (Exception e) {
+                // Fallback: Actions
                 try {
-                    ((JavascriptExecutor) driver).executeScript(
-                            "arguments[0].value = arguments[1]; arguments[0].dispatchEvent(new Event('input'));",
-                            passwordElement, password
-                    );
-                } catch (Exception finalEx) {
-                    throw new RuntimeException("Failed to enter password", finalEx);
+                    new Actions(driver).moveToElement(passwordElement).click().sendKeys(password).perform();
+                } catch (Exception ignored) {
+                    // Last resort: JS
+                    try {
+                        ((JavascriptExecutor) driver).executeScript(
+                                "arguments[0].value = arguments[1]; arguments[0].dispatchEvent(new Event('input'));",
+                                passwordElement, password
+                        );
+                    } catch (Exception finalEx) {
+                        throw new RuntimeException("Failed to enter password", finalEx);
+                    }
                 }
             }
-        }
 
-        // Final references for lambda
-        final WebElement finalPasswordElement = passwordElement;
+            // Final references for lambda
+            final WebElement finalPasswordElement = passwordElement;
 
-        // Verify value entered
-        try {
-            wait.until(d -> {
-                String v = finalPasswordElement.getAttribute("value");
-                return v != null && !v.isEmpty();
-            });
-        } catch (Exception ignored) {}
+            // Verify value entered
+            try {
+                wait.until(d -> {
+                    String v = finalPasswordElement.getAttribute("value");
+                    return v != null && !v.isEmpty();
+                });
+            } catch (Exception ignored) {}
+        }
     }
 
 
@@ -158,14 +149,16 @@ public class LoginPage {
      * Click the login button
      */
     public void clickLogin() {
+        try (Tracer.Span span = Tracer.span("LoginPage.clickLogin")) {
+            WebElement button =
+                    wait.until(ExpectedConditions.presenceOfElementLocated(loginButton));
 
-        WebElement button =
-                wait.until(ExpectedConditions.presenceOfElementLocated(loginButton));
+            wait.until(ExpectedConditions.visibilityOf(button));
 
-        wait.until(ExpectedConditions.visibilityOf(button));
-
-        // Prefer JS click for MUI
-        ((JavascriptExecutor) driver).executeScript("arguments[0].click();", button);
+            // Prefer JS click for MUI
+            PageTimings.begin(driver, "login");
+            ((JavascriptExecutor) driver).executeScript("arguments[0].click();", button);
+        }
     }
     /**
      * Get error message text
@@ -232,27 +225,32 @@ public class LoginPage {
      * @param timeoutSeconds Maximum time to wait
      */
     public void waitForLoaderToDisappear(int timeoutSeconds) {
-        try {
-            // Short probe for loader presence (avoid waiting the full timeout if loader never appears)
-            WebDriverWait shortWait = new WebDriverWait(driver, Duration.ofSeconds(2));
+        try (Tracer.Span span = Tracer.span("LoginPage.waitForLoaderToDisappear")) {
             try {
-                shortWait.until(ExpectedConditions.or(
-                        ExpectedConditions.urlContains("/loader"),
-                        ExpectedConditions.visibilityOfElementLocated(Locators.LoaderPage.LOADER_CONTAINER)
-                ));
-
-                // If loader detected, wait until it disappears (cap the wait)
-                WebDriverWait loaderDisappearWait = new WebDriverWait(driver, Duration.ofSeconds(Math.min(timeoutSeconds, 8)));
-                loaderDisappearWait.until(ExpectedConditions.invisibilityOfElementLocated(Locators.LoaderPage.LOADER_CONTAINER));
-            } catch (Exception ignored) {
-                // loader not detected quickly - continue
-            }
+                // Short probe for loader presence (avoid waiting the full timeout if loader never appears)
+                WebDriverWait shortWait = new WebDriverWait(driver, Duration.ofSeconds(2));
+                try {
+                    shortWait.until(ExpectedConditions.or(
+                            ExpectedConditions.urlContains("/loader"),
+                            ExpectedConditions.visibilityOfElementLocated(Locators.LoaderPage.LOADER_CONTAINER)
+                    ));
+
+                    // If loader detected, wait until it disappears (cap the wait)
+                    WebDriverWait loaderDisappearWait = new WebDriverWait(driver, Duration.ofSeconds(Math.min(timeoutSeconds, 8)));
+                    loaderDisappearWait.until(ExpectedConditions.invisibilityOfElementLocated(Locators.LoaderPage.LOADER_CONTAINER));
+                } catch (Exception ignored) {
+                    // loader not detected quickly - continue
+                }
 
-            // Finally, ensure we've reached the dashboard (cap wait to avoid long blocking)
-            WebDriverWait dashboardWait = new WebDriverWait(driver, Duration.ofSeconds(Math.min(timeoutSeconds, 10)));
-            dashboardWait.until(ExpectedConditions.urlContains("/app/dashboard"));
-        } catch (Exception e) {
-            System.out.println("Loader transition was very quick or not detected");
+                // Finally, ensure we've reached the dashboard (cap wait to avoid long blocking)
+                WebDriverWait dashboardWait = new WebDriverWait(driver, Duration.ofSeconds(Math.min(timeoutSeconds, 10)));
+                dashboardWait.until(ExpectedConditions.urlContains("/app/dashboard"));
+                // The login transition ends when the dashboard is visible, not when its URL is set
+                dashboardWait.until(ExpectedConditions.visibilityOfElementLocated(Locators.DashboardPage.AGRIGEN_LOGO));
+                PageTimings.end(driver, "login");
+            } catch (Exception e) {
+                System.out.println("Loader transition was very quick or not detected");
+            }
         }
     }
 
@@ -262,9 +260,12 @@ public class LoginPage {
      * @param password Password
      */
     public void login(String username, String password) {
-        enterUsername(username);
-        enterPassword(password);
-        clickLogin();
+        try (Tracer.Span span = Tracer.span("LoginPage.login")) {
+            span.arg("username", username);
+            enterUsername(username);
+            enterPassword(password);
+            clickLogin();
+        }
     }
 
     /**
@@ -274,9 +275,11 @@ public class LoginPage {
      * @return true if successfully reached dashboard
      */
     public boolean loginAndWaitForDashboard(String username, String password) {
-        // call login and wait for loader transition
-        login(username, password);
-        waitForLoaderToDisappear(15);
-        return isOnDashboard();
+        try (Tracer.Span span = Tracer.span("LoginPage.loginAndWaitForDashboard")) {
+            // call login and wait for loader transition
+            login(username, password);
+            waitForLoaderToDisappear(15);
+            return isOnDashboard();
+        }
     }
  }
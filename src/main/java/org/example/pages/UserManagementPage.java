@@ -1,6 +1,12 @@
 package org.example.pages;
 
 import org.example.Locators.Locators;
+import org.example.pages.components.MuiSelect;
+import org.example.utils.LocatorResolver;
+import org.example.utils.PageTimings;
+import org.example.utils.Tracer;
+import org.example.utils.UiWait;
+import org.example.utils.WebVitals;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
@@ -10,14 +16,44 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Page Object Model for User Management Page
  */
 public class UserManagementPage {
+    private static final Duration ELEMENT_TIMEOUT = Duration.ofSeconds(15);
+
+    // Cell texts of every body row in one call; returns [[cell, ...], ...]
+    private static final String TABLE_ROWS_SCRIPT =
+            "var body = document.querySelector('tbody');" +
+            "if (!body) return [];" +
+            "return Array.prototype.map.call(body.rows, function(row) {" +
+            "  return Array.prototype.map.call(row.cells, function(cell) { return cell.innerText.trim(); });" +
+            "});";
+
+    // arguments[0] = pagination button; clicks it unless disabled
+    // Returns the table signature from before the click, or null on the last page
+    private static final String TURN_PAGE_SCRIPT =
+            "var button = arguments[0];" +
+            "if (button.disabled || button.getAttribute('aria-disabled') === 'true'" +
+            "    || button.classList.contains('Mui-disabled')) return null;" +
+            "var body = document.querySelector('tbody');" +
+            "var signature = body ? body.rows.length + ':' + body.innerText : '';" +
+            "button.click();" +
+            "return signature;";
+
     private final WebDriver driver;
     private final WebDriverWait wait;
+    private final UiWait uiWait;
+    // Resolves fallback/union locators in one round trip per poll, via the locator cache
+    private final LocatorResolver resolver;
 
     // Locators
     private final By pageTitle = Locators.UserManagementPage.PAGE_TITLE;
@@ -29,10 +65,18 @@ public class UserManagementPage {
     private final By editButton = Locators.UserManagementPage.EDIT_BUTTON;
     private final By deleteButton = Locators.UserManagementPage.DELETE_BUTTON;
 
+    // Filter dropdowns; options are read once per session and picked by index
+    private final MuiSelect groupSelect;
+    private final MuiSelect estateSelect;
+
     // Constructor
     public UserManagementPage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(15));
+        this.wait = new WebDriverWait(driver, ELEMENT_TIMEOUT);
+        this.uiWait = new UiWait(driver);
+        this.resolver = new LocatorResolver(driver);
+        this.groupSelect = new MuiSelect(driver, "UserManagementPage.groupDropdown", groupDropdown);
+        this.estateSelect = new MuiSelect(driver, "UserManagementPage.estateDropdown", estateDropdown);
     }
 
     /**
@@ -54,12 +98,15 @@ public class UserManagementPage {
      * Wait for page to load completely
      */
     public void waitForPageLoad() {
-        try {
-            wait.until(ExpectedConditions.visibilityOfElementLocated(pageTitle));
-            wait.until(ExpectedConditions.visibilityOfElementLocated(addUserButton));
-            Thread.sleep(1000); // Allow UI to settle
-        } catch (Exception e) {
-            System.out.println("Page load wait completed with exception: " + e.getMessage());
+        try (Tracer.Span span = Tracer.span("UserManagementPage.waitForPageLoad")) {
+            try {
+                wait.until(ExpectedConditions.visibilityOfElementLocated(pageTitle));
+                resolver.waitForElement("UserManagementPage.addUserButton", ELEMENT_TIMEOUT, addUserButton);
+                uiWait.forQuiet(); // Allow UI to settle
+                PageTimings.end(driver, "userManagement");
+            } catch (Exception e) {
+                System.out.println("Page load wait completed with exception: " + e.getMessage());
+            }
         }
     }
 
@@ -68,18 +115,17 @@ public class UserManagementPage {
      * @param groupName Name of the group to select
      */
     public void selectGroup(String groupName) {
-        try {
-            WebElement dropdown = wait.until(ExpectedConditions.elementToBeClickable(groupDropdown));
-            dropdown.click();
-            Thread.sleep(500);
-
-            By optionLocator = By.xpath("//li[contains(@class,'MuiMenuItem-root') and text()='" + groupName + "']");
-            WebElement option = wait.until(ExpectedConditions.elementToBeClickable(optionLocator));
-            option.click();
+        try (Tracer.Span span = Tracer.span("UserManagementPage.selectGroup")) {
+            span.arg("groupName", groupName);
+            try {
+                String tableBefore = uiWait.tableSignature();
+                groupSelect.select(groupName);
+                uiWait.forTableRefresh(tableBefore);
 
-            System.out.println("✓ Selected group: " + groupName);
-        } catch (Exception e) {
-            System.out.println("✗ Failed to select group: " + e.getMessage());
+                System.out.println("✓ Selected group: " + groupName);
+            } catch (Exception e) {
+                System.out.println("✗ Failed to select group: " + e.getMessage());
+            }
         }
     }
 
@@ -88,40 +134,50 @@ public class UserManagementPage {
      * @param estateName Name of the estate to select
      */
     public void selectEstate(String estateName) {
-        try {
-            WebElement dropdown = wait.until(ExpectedConditions.elementToBeClickable(estateDropdown));
-            dropdown.click();
-            Thread.sleep(500);
-
-            By optionLocator = By.xpath("//li[contains(@class,'MuiMenuItem-root') and text()='" + estateName + "']");
-            WebElement option = wait.until(ExpectedConditions.elementToBeClickable(optionLocator));
-            option.click();
+        try (Tracer.Span span = Tracer.span("UserManagementPage.selectEstate")) {
+            span.arg("estateName", estateName);
+            try {
+                String tableBefore = uiWait.tableSignature();
+                estateSelect.select(estateName);
+                uiWait.forTableRefresh(tableBefore);
 
-            System.out.println("✓ Selected estate: " + estateName);
-        } catch (Exception e) {
-            System.out.println("✗ Failed to select estate: " + e.getMessage());
+                System.out.println("✓ Selected estate: " + estateName);
+            } catch (Exception e) {
+                System.out.println("✗ Failed to select estate: " + e.getMessage());
+            }
         }
     }
 
+    /**
+     * Get the estates offered by the estate filter
+     * @return Option texts, read once per session
+     */
+    public List<String> getEstateOptions() {
+        return estateSelect.getOptions();
+    }
+
     /**
      * Click Add User button
      */
     public void clickAddUser() {
-        try {
-            WebElement button = wait.until(ExpectedConditions.elementToBeClickable(addUserButton));
-
-            // Try regular click first
+        try (Tracer.Span span = Tracer.span("UserManagementPage.clickAddUser")) {
             try {
-                button.click();
+                WebElement button = resolver.waitForElement("UserManagementPage.addUserButton", ELEMENT_TIMEOUT, addUserButton);
+                String previousUrl = driver.getCurrentUrl();
+
+                // Try regular click first
+                try {
+                    button.click();
+                } catch (Exception e) {
+                    // Fallback to JavaScript click
+                    ((JavascriptExecutor) driver).executeScript("arguments[0].click();", button);
+                }
+
+                System.out.println("✓ Clicked Add User button");
+                uiWait.forNavigation(previousUrl); // Wait for page transition
             } catch (Exception e) {
-                // Fallback to JavaScript click
-                ((JavascriptExecutor) driver).executeScript("arguments[0].click();", button);
+                System.out.println("✗ Failed to click Add User button: " + e.getMessage());
             }
-
-            System.out.println("✓ Clicked Add User button");
-            Thread.sleep(1000); // Wait for page transition
-        } catch (Exception e) {
-            System.out.println("✗ Failed to click Add User button: " + e.getMessage());
         }
     }
 
@@ -130,15 +186,21 @@ public class UserManagementPage {
      * @param searchText Text to search
      */
     public void searchUser(String searchText) {
-        try {
-            WebElement search = wait.until(ExpectedConditions.visibilityOfElementLocated(searchBox));
-            search.clear();
-            search.sendKeys(searchText);
-            Thread.sleep(1000); // Wait for search results
-
-            System.out.println("✓ Searched for: " + searchText);
-        } catch (Exception e) {
-            System.out.println("✗ Failed to search: " + e.getMessage());
+        try (Tracer.Span span = Tracer.span("UserManagementPage.searchUser")) {
+            span.arg("searchText", searchText);
+            try {
+                WebElement search = resolver.waitForElement("UserManagementPage.searchBox", ELEMENT_TIMEOUT, searchBox);
+                String tableBefore = uiWait.tableSignature();
+                PageTimings.begin(driver, "searchUser");
+                search.clear();
+                search.sendKeys(searchText);
+                uiWait.forTableRefresh(tableBefore); // Wait for search results
+                PageTimings.end(driver, "searchUser");
+
+                System.out.println("✓ Searched for: " + searchText);
+            } catch (Exception e) {
+                System.out.println("✗ Failed to search: " + e.getMessage());
+            }
         }
     }
 
@@ -147,9 +209,10 @@ public class UserManagementPage {
      */
     public void clearSearch() {
         try {
-            WebElement search = wait.until(ExpectedConditions.visibilityOfElementLocated(searchBox));
+            WebElement search = resolver.waitForElement("UserManagementPage.searchBox", ELEMENT_TIMEOUT, searchBox);
+            String tableBefore = uiWait.tableSignature();
             search.clear();
-            Thread.sleep(500);
+            uiWait.forTableRefresh(tableBefore);
 
             System.out.println("✓ Cleared search");
         } catch (Exception e) {
@@ -157,18 +220,51 @@ public class UserManagementPage {
         }
     }
 
+    /**
+     * Read all visible user rows in a single script call
+     * Rows with fewer than five cells (e.g. an empty-table message) are skipped
+     * @return Rows in table order, empty if the table is missing
+     */
+    public List<UserRow> getUserRows() {
+        try (Tracer.Span span = Tracer.span("UserManagementPage.getUserRows")) {
+            List<UserRow> rows = new ArrayList<>();
+            try {
+                Object result = ((JavascriptExecutor) driver).executeScript(TABLE_ROWS_SCRIPT);
+                if (result instanceof List) {
+                    for (Object cells : (List<?>) result) {
+                        UserRow row = UserRow.fromCells((List<?>) cells);
+                        if (row != null) {
+                            rows.add(row);
+                        }
+                    }
+                }
+            } catch (Exception e) {
+                System.out.println("✗ Failed to read user table: " + e.getMessage());
+            }
+            return rows;
+        }
+    }
+
+    /**
+     * Find a user in the visible rows
+     * @param username Username to look for
+     * @return Row, or null if the user is not on the current page
+     */
+    public UserRow findUserRow(String username) {
+        for (UserRow row : getUserRows()) {
+            if (row.getUsername().equals(username)) {
+                return row;
+            }
+        }
+        return null;
+    }
+
     /**
      * Get count of users in table
      * @return Number of user rows
      */
     public int getUserCount() {
-        try {
-            List<WebElement> rows = driver.findElements(tableRows);
-            return rows.size();
-        } catch (Exception e) {
-            System.out.println("✗ Failed to get user count: " + e.getMessage());
-            return 0;
-        }
+        return getUserRows().size();
     }
 
     /**
@@ -177,12 +273,7 @@ public class UserManagementPage {
      * @return true if user exists
      */
     public boolean isUserPresent(String username) {
-        try {
-            By userLocator = By.xpath("//td[text()='" + username + "']");
-            return driver.findElement(userLocator).isDisplayed();
-        } catch (Exception e) {
-            return false;
-        }
+        return findUserRow(username) != null;
     }
 
     /**
@@ -191,21 +282,8 @@ public class UserManagementPage {
      * @return List containing [username, roleName, firstName, lastName, status]
      */
     public List<String> getUserDetails(int rowIndex) {
-        List<String> userDetails = new ArrayList<>();
-        try {
-            List<WebElement> rows = driver.findElements(tableRows);
-            if (rowIndex < rows.size()) {
-                WebElement row = rows.get(rowIndex);
-                List<WebElement> cells = row.findElements(By.tagName("td"));
-
-                for (WebElement cell : cells) {
-                    userDetails.add(cell.getText());
-                }
-            }
-        } catch (Exception e) {
-            System.out.println("✗ Failed to get user details: " + e.getMessage());
-        }
-        return userDetails;
+        List<UserRow> rows = getUserRows();
+        return rowIndex < rows.size() ? rows.get(rowIndex).toList() : new ArrayList<>();
     }
 
     /**
@@ -216,6 +294,7 @@ public class UserManagementPage {
         try {
             By editButtonLocator = By.xpath("//td[text()='" + username + "']/following-sibling::td//button[@title='Edit' or contains(@class,'edit')]");
             WebElement editBtn = wait.until(ExpectedConditions.elementToBeClickable(editButtonLocator));
+            String previousUrl = driver.getCurrentUrl();
 
             try {
                 editBtn.click();
@@ -224,7 +303,7 @@ public class UserManagementPage {
             }
 
             System.out.println("✓ Clicked Edit for user: " + username);
-            Thread.sleep(1000);
+            uiWait.forNavigation(previousUrl);
         } catch (Exception e) {
             System.out.println("✗ Failed to click Edit: " + e.getMessage());
         }
@@ -246,7 +325,7 @@ public class UserManagementPage {
             }
 
             System.out.println("✓ Clicked Delete for user: " + username);
-            Thread.sleep(500);
+            uiWait.forQuiet(); // Confirmation dialog finished opening
         } catch (Exception e) {
             System.out.println("✗ Failed to click Delete: " + e.getMessage());
         }
@@ -258,13 +337,12 @@ public class UserManagementPage {
      * @return Status text (Active/Inactive)
      */
     public String getUserStatus(String username) {
-        try {
-            By statusLocator = By.xpath("//td[text()='" + username + "']/following-sibling::td[contains(text(),'Active') or contains(text(),'Inactive')]");
-            return driver.findElement(statusLocator).getText();
-        } catch (Exception e) {
-            System.out.println("✗ Failed to get user status: " + e.getMessage());
+        UserRow row = findUserRow(username);
+        if (row == null) {
+            System.out.println("✗ Failed to get user status: " + username + " not in table");
             return "";
         }
+        return row.getStatus();
     }
 
     /**
@@ -295,6 +373,14 @@ public class UserManagementPage {
         return driver.getCurrentUrl();
     }
 
+    /**
+     * Get the Core Web Vitals of the user list screen
+     * @return LCP, CLS and INP so far, null if the browser cannot report them
+     */
+    public WebVitals.Snapshot getWebVitals() {
+        return WebVitals.read(driver);
+    }
+
     /**
      * Check if Add User button is displayed
      * @return true if button is visible
@@ -313,8 +399,9 @@ public class UserManagementPage {
     public void clickNextPage() {
         try {
             WebElement nextBtn = wait.until(ExpectedConditions.elementToBeClickable(Locators.UserManagementPage.NEXT_PAGE_BUTTON));
+            String tableBefore = uiWait.tableSignature();
             nextBtn.click();
-            Thread.sleep(1000);
+            uiWait.forTableRefresh(tableBefore);
             System.out.println("✓ Clicked next page");
         } catch (Exception e) {
             System.out.println("✗ Failed to click next page: " + e.getMessage());
@@ -327,11 +414,103 @@ public class UserManagementPage {
     public void clickPreviousPage() {
         try {
             WebElement prevBtn = wait.until(ExpectedConditions.elementToBeClickable(Locators.UserManagementPage.PREVIOUS_PAGE_BUTTON));
+            String tableBefore = uiWait.tableSignature();
             prevBtn.click();
-            Thread.sleep(1000);
+            uiWait.forTableRefresh(tableBefore);
             System.out.println("✓ Clicked previous page");
         } catch (Exception e) {
             System.out.println("✗ Failed to click previous page: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * All users across all table pages, fetched lazily
+     * Starts from the first page; the next page is only requested when the
+     * consumer has used up the current one, so findFirst()/anyMatch() stop
+     * paging as soon as they have an answer. The last page is recognised by
+     * the disabled (or missing) next page button, without waiting.
+     * @return Ordered stream of rows; it drives the browser, so consume it on this page
+     */
+    public Stream<UserRow> streamAllUsers() {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(new PagingIterator(), Spliterator.ORDERED | Spliterator.NONNULL),
+                false);
+    }
+
+    /**
+     * Find a user on any page of the table
+     * @param username Username to look for
+     * @return Row, or null if no page contains the user
+     */
+    public UserRow findUserAcrossPages(String username) {
+        UserRow row = streamAllUsers()
+                .filter(r -> r.getUsername().equals(username))
+                .findFirst()
+                .orElse(null);
+        System.out.println(row != null ? "✓ Found user across pages: " + username : "✗ User not on any page: " + username);
+        return row;
+    }
+
+    /**
+     * Click a pagination button unless it is disabled, then wait for the new rows
+     * @param button Pagination button locator
+     * @return false if the button is missing or disabled
+     */
+    private boolean turnPage(By button) {
+        List<WebElement> buttons = driver.findElements(button);
+        if (buttons.isEmpty()) {
+            return false;
+        }
+        Object before = ((JavascriptExecutor) driver).executeScript(TURN_PAGE_SCRIPT, buttons.get(0));
+        if (before == null) {
+            return false;
+        }
+        uiWait.forTableRefresh(before.toString());
+        return true;
+    }
+
+    /**
+     * Walks the table page by page, reading each page with one script call
+     */
+    private class PagingIterator implements Iterator<UserRow> {
+        private Iterator<UserRow> page;
+        private String lastSignature;
+        private boolean lastPage;
+
+        @Override
+        public boolean hasNext() {
+            if (page == null) {
+                turnPage(Locators.UserManagementPage.FIRST_PAGE_BUTTON);
+                readPage();
+            }
+            while (!page.hasNext() && !lastPage) {
+                if (!turnPage(Locators.UserManagementPage.NEXT_PAGE_BUTTON)) {
+                    lastPage = true;
+                    break;
+                }
+                readPage();
+            }
+            return page.hasNext();
+        }
+
+        @Override
+        public UserRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return page.next();
+        }
+
+        private void readPage() {
+            // A page that did not change means paging is stuck: treat it as the last one
+            String signature = uiWait.tableSignature();
+            if (signature.equals(lastSignature)) {
+                lastPage = true;
+                page = new ArrayList<UserRow>().iterator();
+                return;
+            }
+            lastSignature = signature;
+            page = getUserRows().iterator();
+        }
+    }
+}
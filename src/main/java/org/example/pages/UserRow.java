@@ -0,0 +1,73 @@
+package org.example.pages;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * One row of the user management table, as read by UserManagementPage.getUserRows()
+ */
+public class UserRow {
+    private final String username;
+    private final String roleName;
+    private final String firstName;
+    private final String lastName;
+    private final String status;
+
+    public UserRow(String username, String roleName, String firstName, String lastName, String status) {
+        this.username = username;
+        this.roleName = roleName;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.status = status;
+    }
+
+    /**
+     * Build a row from the cell texts of a table row
+     * @param cells Cell texts in column order; the Actions column is ignored
+     * @return Row, or null if there are fewer than five cells (e.g. a "no data" row)
+     */
+    static UserRow fromCells(List<?> cells) {
+        if (cells == null || cells.size() < 5) {
+            return null;
+        }
+        return new UserRow(String.valueOf(cells.get(0)), String.valueOf(cells.get(1)),
+                String.valueOf(cells.get(2)), String.valueOf(cells.get(3)), String.valueOf(cells.get(4)));
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getRoleName() {
+        return roleName;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public boolean isActive() {
+        return "Active".equalsIgnoreCase(status);
+    }
+
+    /**
+     * Values in table order
+     * @return [username, roleName, firstName, lastName, status]
+     */
+    public List<String> toList() {
+        return Arrays.asList(username, roleName, firstName, lastName, status);
+    }
+
+    @Override
+    public String toString() {
+        return username + " (" + firstName + " " + lastName + ", " + roleName + ", " + status + ")";
+    }
+}
@@ -0,0 +1,217 @@
+package org.example.pages.components;
+
+import org.example.utils.LocatorResolver;
+import org.example.utils.SessionIds;
+import org.example.utils.Tracer;
+import org.example.utils.UiWait;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.Keys;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.interactions.Actions;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * MUI Select dropdown, shared by the page objects
+ * The option texts are read in one script call the first time the menu is
+ * opened and cached per browser session and dropdown. Selecting then clicks
+ * the option by its index in the open menu (one call, which also checks that
+ * the cached list still matches) instead of scanning the document with an
+ * exact-text XPath. With -Dselect.mode=typeahead the option is picked with
+ * keyboard typeahead and Enter instead; the index path is the fallback.
+ */
+public class MuiSelect {
+
+    private static final Duration ELEMENT_TIMEOUT = Duration.ofSeconds(15);
+
+    // Items of the menu that is currently open (the last one, if several)
+    private static final String MENU_ITEMS =
+            "var papers = document.querySelectorAll('.MuiPopover-paper, .MuiMenu-paper');" +
+            "var paper = null;" +
+            "for (var i = papers.length - 1; i >= 0 && !paper; i--) if (papers[i].querySelector('li')) paper = papers[i];" +
+            "var items = paper ? Array.prototype.slice.call(paper.querySelectorAll('li')) : [];";
+
+    private static final String READ_OPTIONS_SCRIPT =
+            MENU_ITEMS +
+            "return items.map(function(item) { return item.textContent.trim(); });";
+
+    // arguments[0] = index, arguments[1] = expected text
+    // Clicks the item and returns null, or returns the current texts if the cached list is stale
+    private static final String PICK_SCRIPT =
+            MENU_ITEMS +
+            "var item = items[arguments[0]];" +
+            "if (!item || item.textContent.trim() !== arguments[1]) {" +
+            "  return items.map(function(item) { return item.textContent.trim(); });" +
+            "}" +
+            "item.scrollIntoView({block: 'nearest'});" +
+            "item.click();" +
+            "return null;";
+
+    // Session id + dropdown key -> option texts
+    private static final Map<String, List<String>> OPTIONS = new ConcurrentHashMap<>();
+
+    private final WebDriver driver;
+    private final String key;
+    private final By trigger;
+    private final UiWait uiWait;
+    private final LocatorResolver resolver;
+
+    /**
+     * @param driver Driver of the page
+     * @param key Page and dropdown name, e.g. "AddUserPage.groupDropdown" (also the locator cache key)
+     * @param trigger Element that opens the menu
+     */
+    public MuiSelect(WebDriver driver, String key, By trigger) {
+        this.driver = driver;
+        this.key = key;
+        this.trigger = trigger;
+        this.uiWait = new UiWait(driver);
+        this.resolver = new LocatorResolver(driver);
+    }
+
+    /**
+     * Get the option texts, from the cache or by opening the menu once
+     * @return Option texts in menu order
+     */
+    public List<String> getOptions() {
+        List<String> cached = OPTIONS.get(cacheKey());
+        if (cached != null) {
+            return cached;
+        }
+        open();
+        List<String> options = readOptions();
+        close();
+        return options;
+    }
+
+    /**
+     * Select an option by its exact text
+     * @param option Option text
+     * @throws NoSuchElementException if the menu has no such option
+     */
+    public void select(String option) {
+        try (Tracer.Span span = Tracer.span(key + ".select")) {
+            span.arg("option", option);
+            open();
+            if ("typeahead".equalsIgnoreCase(System.getProperty("select.mode")) && selectByTypeahead(option)) {
+                return;
+            }
+
+            List<String> options = OPTIONS.get(cacheKey());
+            if (options == null || !options.contains(option)) {
+                options = readOptions();
+            }
+            int index = options.indexOf(option);
+            if (index < 0) {
+                close();
+                throw new NoSuchElementException("No option '" + option + "' in " + key + ", options: " + options);
+            }
+            pick(index, option);
+        }
+    }
+
+    /**
+     * Select an option by its position in the menu
+     * @param index 0-based option index
+     * @return Text of the selected option
+     */
+    public String selectByIndex(int index) {
+        open();
+        List<String> options = OPTIONS.get(cacheKey());
+        if (options == null || index >= options.size()) {
+            options = readOptions();
+        }
+        if (index < 0 || index >= options.size()) {
+            close();
+            throw new NoSuchElementException("No option #" + index + " in " + key + ", " + options.size() + " options");
+        }
+        String option = options.get(index);
+        pick(index, option);
+        return option;
+    }
+
+    /**
+     * Forget the cached options of all dropdowns, e.g. after test data changed
+     */
+    public static void clearCache() {
+        OPTIONS.clear();
+    }
+
+    private void open() {
+        WebElement element = resolver.waitForElement(key, ELEMENT_TIMEOUT, trigger);
+        try {
+            element.click();
+        } catch (Exception e) {
+            ((JavascriptExecutor) driver).executeScript("arguments[0].click();", element);
+        }
+        uiWait.forMenuOpen();
+    }
+
+    private void close() {
+        new Actions(driver).sendKeys(Keys.ESCAPE).perform();
+        uiWait.forMenuClosed();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> readOptions() {
+        Object result = ((JavascriptExecutor) driver).executeScript(READ_OPTIONS_SCRIPT);
+        List<String> options = result instanceof List
+                ? Collections.unmodifiableList(new ArrayList<>((List<String>) result))
+                : Collections.emptyList();
+        if (!options.isEmpty()) {
+            OPTIONS.put(cacheKey(), options);
+        }
+        return options;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void pick(int index, String option) {
+        Object stale = ((JavascriptExecutor) driver).executeScript(PICK_SCRIPT, index, option);
+        if (stale instanceof List) {
+            // Options changed since they were cached: refresh and try once more
+            List<String> options = Collections.unmodifiableList(new ArrayList<>((List<String>) stale));
+            OPTIONS.put(cacheKey(), options);
+            int current = options.indexOf(option);
+            if (current < 0 || ((JavascriptExecutor) driver).executeScript(PICK_SCRIPT, current, option) != null) {
+                close();
+                throw new NoSuchElementException("No option '" + option + "' in " + key + ", options: " + options);
+            }
+        }
+        uiWait.forMenuClosed();
+    }
+
+    private boolean selectByTypeahead(String option) {
+        try {
+            new Actions(driver).sendKeys(option).sendKeys(Keys.ENTER).perform();
+            uiWait.forMenuClosed();
+            WebElement element = resolver.waitForElement(key, ELEMENT_TIMEOUT, trigger);
+            // Exact match: typing "Estate 1" may land on "Estate 10"
+            if (option.equals(element.getText().trim()) || option.equals(element.getAttribute("value"))) {
+                return true;
+            }
+            System.out.println("⚠ Typeahead did not select '" + option + "' in " + key + ", using option index");
+        } catch (Exception e) {
+            System.out.println("⚠ Typeahead failed in " + key + ": " + e.getMessage());
+        }
+        if (!isMenuOpen()) {
+            open();
+        }
+        return false;
+    }
+
+    private boolean isMenuOpen() {
+        return Boolean.TRUE.equals(((JavascriptExecutor) driver).executeScript(MENU_ITEMS + "return items.length > 0;"));
+    }
+
+    private String cacheKey() {
+        return SessionIds.of(driver) + "/" + key;
+    }
+}
@@ -30,7 +30,8 @@ public class LoginTestData {
     public static final String SPECIAL_CHARS_PASSWORD = "pass!@#$%^&*()";
 
     // ==================== EXPECTED URLs ====================
-    public static final String BASE_URL = "http://agri-qa.southeastasia.cloudapp.azure.com:5090";
+    // Override with -Dbase.url=... (set automatically when the local stand-in server runs)
+    public static final String BASE_URL = System.getProperty("base.url", "http://agri-qa.southeastasia.cloudapp.azure.com:5090");
     public static final String LOGIN_PAGE_URL = BASE_URL + "/signin";
     public static final String LOADER_URL = "/loader";
     public static final String DASHBOARD_URL = "/app/dashboard";
@@ -84,13 +85,6 @@ public class LoginTestData {
     public static final String SCREENSHOT_SPECIAL_CHARS_BEFORE = "09_SpecialChars_BeforeSubmit";
     public static final String SCREENSHOT_SPECIAL_CHARS_AFTER = "09_SpecialChars_Error";
 
-    // ==================== WAIT TIMES (in milliseconds) ====================
-    // Reduced waits to speed up tests; keep them reasonable for typical UI responses
-    public static final int SHORT_WAIT = 500;    // 0.5 seconds
-    public static final int MEDIUM_WAIT = 1000;   // 1 second
-    public static final int LONG_WAIT = 2000;     // 2 seconds
-    public static final int LOADER_WAIT = 5000;  // 5 seconds for loader transition
-
     // ==================== EXPECTED USER INFO ====================
     public static final String EXPECTED_USER_NAME = "Dinethra R";
     public static final String EXPECTED_SHORT_NAME = "Dine";
@@ -6,7 +6,7 @@ package org.example.testdata;
 public class UserManagementTestData {
 
     // ==================== BASE URL ====================
-    public static final String BASE_URL = "http://agri-qa.southeastasia.cloudapp.azure.com:5090";
+    public static final String BASE_URL = LoginTestData.BASE_URL;
     public static final String USER_MANAGEMENT_URL = "/app/user-management/user";
     public static final String ADD_USER_URL = "/app/user-management/user/add";
 
@@ -105,13 +105,6 @@ public class UserManagementTestData {
     public static final String SCREENSHOT_REQUIRED_FIELDS = "09_RequiredFields_Error";
     public static final String SCREENSHOT_PASSWORD_MISMATCH = "10_PasswordMismatch_Error";
 
-    // ==================== WAIT TIMES (in milliseconds) ====================
-    public static final int SHORT_WAIT = 500;
-    public static final int MEDIUM_WAIT = 1000;
-    public static final int LONG_WAIT = 2000;
-    public static final int SAVE_OPERATION_WAIT = 3000;
-    public static final int PAGE_LOAD_WAIT = 2000;
-
     // ==================== PAGINATION ====================
     public static final int DEFAULT_ROWS_PER_PAGE = 5;
     public static final int[] ROWS_PER_PAGE_OPTIONS = {5, 10, 25, 50};
@@ -0,0 +1,102 @@
+package org.example.testdata;
+
+import java.util.Map;
+
+/**
+ * One user to create through the Add User form (see UserRecordReader)
+ */
+public class UserRecord {
+
+    private final String group;
+    private final String estate;
+    private final String firstName;
+    private final String lastName;
+    private final String userName;
+    private final String password;
+    private final String role;
+    private final boolean active;
+    private final boolean locked;
+
+    public UserRecord(String group, String estate, String firstName, String lastName, String userName,
+                      String password, String role, boolean active, boolean locked) {
+        this.group = group;
+        this.estate = estate;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.userName = userName;
+        this.password = password;
+        this.role = role;
+        this.active = active;
+        this.locked = locked;
+    }
+
+    /**
+     * Build a record from named fields, defaults from UserManagementTestData for missing ones
+     * @param fields Field name (group, estate, firstName, lastName, userName, password, role, active, locked) -> value
+     * @return User record
+     * @throws IllegalArgumentException if userName is missing
+     */
+    static UserRecord fromFields(Map<String, ?> fields) {
+        String userName = text(fields, "userName", "");
+        if (userName.isEmpty()) {
+            throw new IllegalArgumentException("userName is required: " + fields);
+        }
+        return new UserRecord(
+                text(fields, "group", UserManagementTestData.VALID_GROUP),
+                text(fields, "estate", UserManagementTestData.VALID_ESTATE),
+                text(fields, "firstName", UserManagementTestData.NEW_FIRST_NAME),
+                text(fields, "lastName", UserManagementTestData.NEW_LAST_NAME),
+                userName,
+                text(fields, "password", UserManagementTestData.NEW_PASSWORD),
+                text(fields, "role", UserManagementTestData.NEW_ROLE),
+                Boolean.parseBoolean(text(fields, "active", String.valueOf(UserManagementTestData.NEW_USER_ACTIVE))),
+                Boolean.parseBoolean(text(fields, "locked", String.valueOf(UserManagementTestData.NEW_USER_LOCKED))));
+    }
+
+    private static String text(Map<String, ?> fields, String name, String defaultValue) {
+        Object value = fields.get(name);
+        String text = value == null ? "" : value.toString().trim();
+        return text.isEmpty() ? defaultValue : text;
+    }
+
+    public String getGroup() {
+        return group;
+    }
+
+    public String getEstate() {
+        return estate;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public String getUserName() {
+        return userName;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public boolean isLocked() {
+        return locked;
+    }
+
+    @Override
+    public String toString() {
+        return userName + " (" + group + " / " + estate + ", " + role + ")";
+    }
+}
@@ -0,0 +1,199 @@
+package org.example.testdata;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonInput;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Streams user records from a CSV or JSON file, one record at a time
+ * The file is never loaded as a whole, so it can hold thousands of users.
+ *
+ *   CSV:  header row with the UserRecord field names, then one user per row;
+ *         blank lines and lines starting with # are ignored, fields may be "quoted"
+ *   JSON: array of objects with the same field names
+ *
+ * Only userName is required; other fields default to UserManagementTestData.
+ * "{run}" in a user name is replaced with the run id, so the same file can be
+ * replayed against a server that still has the previous run's users.
+ * Unreadable records are skipped with a warning (see getSkipped()).
+ */
+public class UserRecordReader implements Iterator<UserRecord>, Closeable {
+
+    private static final Json JSON = new Json();
+
+    private final Path file;
+    private final String runId;
+    private final boolean csv;
+    private final BufferedReader reader;
+    private final JsonInput jsonInput;
+
+    private String[] header;
+    private int line;
+    private int skipped;
+    private UserRecord next;
+    private boolean done;
+
+    /**
+     * Open a user file, format chosen by extension (.json, otherwise CSV)
+     * @param file CSV or JSON file
+     * @param runId Replaces "{run}" in user names
+     * @throws UncheckedIOException if the file cannot be opened
+     */
+    public UserRecordReader(Path file, String runId) {
+        this.file = file;
+        this.runId = runId;
+        this.csv = !file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".json");
+        try {
+            this.reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open user file " + file, e);
+        }
+        if (csv) {
+            this.jsonInput = null;
+        } else {
+            this.jsonInput = JSON.newInput(reader);
+            jsonInput.beginArray();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !done) {
+            next = csv ? readCsv() : readJson();
+            done = next == null;
+        }
+        return next != null;
+    }
+
+    @Override
+    public UserRecord next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        UserRecord record = next;
+        next = null;
+        return record;
+    }
+
+    /**
+     * Number of records skipped so far because they could not be read
+     * @return Skipped record count
+     */
+    public int getSkipped() {
+        return skipped;
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (jsonInput != null) {
+                jsonInput.close();
+            }
+            reader.close();
+        } catch (IOException e) {
+            System.out.println("⚠ Failed to close user file " + file + ": " + e.getMessage());
+        }
+    }
+
+    private UserRecord readCsv() {
+        try {
+            String row;
+            while ((row = reader.readLine()) != null) {
+                line++;
+                if (row.trim().isEmpty() || row.trim().startsWith("#")) {
+                    continue;
+                }
+                List<String> values = splitCsv(row);
+                if (header == null) {
+                    header = values.toArray(new String[0]);
+                    continue;
+                }
+                Map<String, String> fields = new HashMap<>();
+                for (int i = 0; i < header.length && i < values.size(); i++) {
+                    fields.put(header[i].trim(), values.get(i));
+                }
+                UserRecord record = toRecord(fields, "line " + line);
+                if (record != null) {
+                    return record;
+                }
+            }
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read user file " + file, e);
+        }
+    }
+
+    private UserRecord readJson() {
+        while (jsonInput.hasNext()) {
+            line++;
+            Map<String, Object> fields = jsonInput.read(Json.MAP_TYPE);
+            UserRecord record = toRecord(fields == null ? new HashMap<>() : fields, "record " + line);
+            if (record != null) {
+                return record;
+            }
+        }
+        jsonInput.endArray();
+        return null;
+    }
+
+    private UserRecord toRecord(Map<String, ?> fields, String position) {
+        try {
+            UserRecord record = UserRecord.fromFields(fields);
+            if (!record.getUserName().contains("{run}")) {
+                return record;
+            }
+            return new UserRecord(record.getGroup(), record.getEstate(), record.getFirstName(),
+                    record.getLastName(), record.getUserName().replace("{run}", runId), record.getPassword(),
+                    record.getRole(), record.isActive(), record.isLocked());
+        } catch (IllegalArgumentException e) {
+            skipped++;
+            System.out.println("⚠ Skipping " + position + " of " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Split one CSV row; double quotes enclose fields and "" is a literal quote
+     */
+    static List<String> splitCsv(String row) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < row.length(); i++) {
+            char c = row.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < row.length() && row.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString().trim());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        values.add(value.toString().trim());
+        return values;
+    }
+}
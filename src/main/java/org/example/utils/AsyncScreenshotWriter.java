@@ -0,0 +1,124 @@
+package org.example.utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Background writer for screenshot bytes
+ * Test threads hand over PNG bytes and return immediately; a single daemon
+ * thread writes them to disk. The queue is bounded, so a test thread blocks
+ * (backpressure) only when the writer falls behind by more than the capacity.
+ */
+public class AsyncScreenshotWriter {
+
+    private final BlockingQueue<PendingScreenshot> queue;
+    private final Thread worker;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicInteger written = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final Object drainLock = new Object();
+
+    public AsyncScreenshotWriter(int capacity) {
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+        this.worker = new Thread(this::run, "screenshot-writer");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Queue screenshot bytes for writing
+     * Blocks while the queue is full
+     * @param target File to write
+     * @param png Screenshot bytes
+     */
+    public void submit(Path target, byte[] png) {
+        pending.incrementAndGet();
+        try {
+            queue.put(new PendingScreenshot(target, png));
+        } catch (InterruptedException e) {
+            pending.decrementAndGet();
+            Thread.currentThread().interrupt();
+            System.out.println("✗ Screenshot dropped, interrupted while queueing: " + target);
+        }
+    }
+
+    /**
+     * Wait until every queued screenshot is on disk
+     * @param timeoutMillis Maximum time to wait
+     * @return true if everything was written in time
+     */
+    public boolean drain(long timeoutMillis) {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        synchronized (drainLock) {
+            while (pending.get() > 0) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    System.out.println("✗ Screenshot writer still has " + pending.get() + " pending after drain timeout");
+                    return false;
+                }
+                try {
+                    drainLock.wait(Math.min(remaining, 100));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    public int getPendingCount() {
+        return pending.get();
+    }
+
+    public int getWrittenCount() {
+        return written.get();
+    }
+
+    public int getFailedCount() {
+        return failed.get();
+    }
+
+    private void run() {
+        while (true) {
+            PendingScreenshot screenshot;
+            try {
+                screenshot = queue.poll(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (screenshot == null) {
+                continue;
+            }
+
+            try {
+                Files.createDirectories(screenshot.target.getParent());
+                Files.write(screenshot.target, screenshot.png);
+                written.incrementAndGet();
+            } catch (IOException e) {
+                failed.incrementAndGet();
+                System.out.println("✗ Failed to write screenshot " + screenshot.target + ": " + e.getMessage());
+            } finally {
+                synchronized (drainLock) {
+                    pending.decrementAndGet();
+                    drainLock.notifyAll();
+                }
+            }
+        }
+    }
+
+    private static final class PendingScreenshot {
+        private final Path target;
+        private final byte[] png;
+
+        private PendingScreenshot(Path target, byte[] png) {
+            this.target = target;
+            this.png = png;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package org.example.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fills the text fields and switches of a form in a single script call
+ * Text fields are set through the native value setter followed by input and
+ * change events, which is what React-controlled inputs listen for; checkboxes
+ * and switches are clicked only when their state differs. Dropdowns are left
+ * to MuiSelect, which caches their options and looks only inside the open menu.
+ *
+ * Fields are applied in the order they were added. apply() returns the keys of
+ * fields that could not be found or did not keep the value, so the caller can
+ * fall back to typing them one by one.
+ *
+ * Locators go through LocatorCache like LocatorResolver's keyed variants.
+ */
+public class BatchFormFiller {
+
+    // arguments[0] = [{kind, candidates: [[type, value], ...], value}, ...]
+    // Returns [[candidateIndex or -1, applied], ...]
+    private static final String FILL_SCRIPT =
+            "var fields = arguments[0];" +
+            LocatorResolver.FIND_HELPERS +
+            "var setText = function(el, value) {" +
+            "  var proto = el instanceof HTMLTextAreaElement ? HTMLTextAreaElement.prototype : HTMLInputElement.prototype;" +
+            "  el.focus();" +
+            "  Object.getOwnPropertyDescriptor(proto, 'value').set.call(el, value);" +
+            "  el.dispatchEvent(new Event('input', {bubbles: true}));" +
+            "  el.dispatchEvent(new Event('change', {bubbles: true}));" +
+            "  el.blur();" +
+            "  return el.value === value;" +
+            "};" +
+            "var setChecked = function(el, checked) {" +
+            "  var box = el.matches('input') ? el : el.querySelector('input[type=checkbox]');" +
+            "  if (!box) return false;" +
+            "  if (box.checked !== checked) box.click();" +
+            "  return box.checked === checked;" +
+            "};" +
+            "var results = [];" +
+            "for (var i = 0; i < fields.length; i++) {" +
+            "  var f = fields[i], m = locate(f.candidates), applied = false;" +
+            "  if (m) {" +
+            "    try { applied = f.kind === 'text' ? setText(m[1], f.value) : setChecked(m[1], f.value); } catch (e) {}" +
+            "  }" +
+            "  results.push([m ? m[0] : -1, applied]);" +
+            "}" +
+            "return results;";
+
+    private final WebDriver driver;
+    private final List<Field> fields = new ArrayList<>();
+
+    public BatchFormFiller(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Queue a text input
+     * @param key Locator cache key, e.g. "AddUserPage.firstNameInput"
+     * @param locator Locator or XPath union of the input
+     * @param value Value to set (null = leave the field alone)
+     * @return this
+     */
+    public BatchFormFiller text(String key, By locator, String value) {
+        if (value != null) {
+            fields.add(new Field("text", key, locator, value));
+        }
+        return this;
+    }
+
+    /**
+     * Queue a checkbox or switch
+     * @param key Locator cache key, e.g. "AddUserPage.activeToggle"
+     * @param locator Locator of the input or an element wrapping it
+     * @param checked Wanted state
+     * @return this
+     */
+    public BatchFormFiller checkbox(String key, By locator, boolean checked) {
+        fields.add(new Field("checkbox", key, locator, checked));
+        return this;
+    }
+
+    /**
+     * Apply all queued fields in one script call
+     * @return Keys of fields that were not found or rejected the value, in queue order
+     */
+    public List<String> apply() {
+        List<Map<String, Object>> payload = new ArrayList<>();
+        for (Field field : fields) {
+            List<List<String>> candidates = new ArrayList<>();
+            for (By by : field.ordered) {
+                candidates.add(LocatorResolver.encode(by));
+            }
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("kind", field.kind);
+            json.put("candidates", candidates);
+            json.put("value", field.value);
+            payload.add(json);
+        }
+
+        List<String> rejected = new ArrayList<>();
+        Object result = ((JavascriptExecutor) driver).executeScript(FILL_SCRIPT, payload);
+        List<?> outcomes = result instanceof List ? (List<?>) result : new ArrayList<>();
+        for (int i = 0; i < fields.size(); i++) {
+            Field field = fields.get(i);
+            List<?> outcome = i < outcomes.size() ? (List<?>) outcomes.get(i) : Arrays.asList(-1L, false);
+            int index = ((Number) outcome.get(0)).intValue();
+            if (index >= 0) {
+                LocatorCache.getInstance().record(field.key, field.declared, field.ordered.get(index));
+            }
+            if (index < 0 || !Boolean.TRUE.equals(outcome.get(1))) {
+                rejected.add(field.key);
+            }
+        }
+        fields.clear();
+        return rejected;
+    }
+
+    /**
+     * One queued field, with its candidates in cache order
+     */
+    private static final class Field {
+        private final String kind;
+        private final String key;
+        private final List<By> declared;
+        private final List<By> ordered;
+        private final Object value;
+
+        Field(String kind, String key, By locator, Object value) {
+            this.kind = kind;
+            this.key = key;
+            this.declared = LocatorResolver.splitUnion(locator);
+            this.ordered = LocatorCache.getInstance().order(key, declared);
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Records the rendered DOM of a page as an HTML file
+ * Snapshots feed the locator benchmarks (see benchmarks/), which evaluate
+ * every Locators constant offline against signin, dashboard, user-list and
+ * add-user. Recording is opt-in and costs one script call per snapshot.
+ *   -Ddom.snapshots=true   write snapshots to target/dom-snapshots/<name>.html
+ */
+public class DomSnapshotUtil {
+
+    private static final Path ROOT_DIR = Paths.get(System.getProperty("user.dir"), "target", "dom-snapshots");
+
+    /**
+     * Check if DOM snapshots are recorded
+     * @return true if -Ddom.snapshots=true
+     */
+    public static boolean isEnabled() {
+        return Boolean.getBoolean("dom.snapshots");
+    }
+
+    /**
+     * Save the current DOM (after scripts ran) if recording is enabled
+     * @param driver WebDriver instance
+     * @param name Snapshot name, e.g. "user-list"
+     * @return Path to the saved snapshot, or null if disabled or failed
+     */
+    public static String capture(WebDriver driver, String name) {
+        if (!isEnabled()) {
+            return null;
+        }
+        Path target = ROOT_DIR.resolve(name + ".html");
+        try {
+            Object html = ((JavascriptExecutor) driver).executeScript(
+                    "return '<!DOCTYPE html>\\n' + document.documentElement.outerHTML;");
+            Files.createDirectories(ROOT_DIR);
+            Files.write(target, String.valueOf(html).getBytes(StandardCharsets.UTF_8));
+            System.out.println("✓ DOM snapshot saved: " + target);
+            return target.toString();
+        } catch (Exception e) {
+            System.out.println("✗ Failed to capture DOM snapshot: " + e.getMessage());
+            return null;
+        }
+    }
+}
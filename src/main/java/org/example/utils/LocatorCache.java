@@ -0,0 +1,233 @@
+package org.example.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Self-healing locator cache, persisted across runs
+ * Remembers, per page and logical element name (e.g. "LoginPage.username"),
+ * which fallback candidate actually matched. Next time that candidate is
+ * tried right after the primary, which always stays first so a repaired
+ * primary locator takes over again. Results are stored in target/locator-cache.json and a drift
+ * report lists elements whose primary locator no longer matches.
+ *
+ *   -Dlocator.cache=false   disable reordering and recording
+ */
+public final class LocatorCache {
+
+    private static final Path CACHE_FILE = Paths.get(System.getProperty("user.dir"), "target", "locator-cache.json");
+    private static final Path REPORT_FILE =
+            Paths.get(System.getProperty("user.dir"), "target", "locator-drift-report.txt");
+    private static final Json JSON = new Json();
+
+    private static final LocatorCache INSTANCE = new LocatorCache();
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    private LocatorCache() {
+    }
+
+    public static LocatorCache getInstance() {
+        return INSTANCE;
+    }
+
+    public static boolean isEnabled() {
+        return !"false".equalsIgnoreCase(System.getProperty("locator.cache", "true"));
+    }
+
+    /**
+     * Order candidates so the last known winner is the first fallback
+     * The primary stays first, so a primary that matches again wins and clears the drift
+     * @param key Page and element name, e.g. "AddUserPage.firstName"
+     * @param candidates Candidates in declared order (first = primary)
+     * @return Candidates in the order to try them
+     */
+    public List<By> order(String key, List<By> candidates) {
+        if (!isEnabled()) {
+            return candidates;
+        }
+        Entry entry = getEntry(key);
+        if (entry == null || !entry.candidates.equals(describe(candidates)) || entry.winner == null) {
+            return candidates;
+        }
+        List<By> ordered = new ArrayList<>(candidates.size());
+        ordered.add(candidates.get(0));
+        for (By by : candidates.subList(1, candidates.size())) {
+            if (by.toString().equals(entry.winner)) {
+                ordered.add(1, by);
+            } else {
+                ordered.add(by);
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * Record which candidate matched
+     * @param key Page and element name
+     * @param candidates Candidates in declared order (first = primary)
+     * @param winner Candidate that matched
+     */
+    public void record(String key, List<By> candidates, By winner) {
+        if (!isEnabled()) {
+            return;
+        }
+        load();
+        List<String> described = describe(candidates);
+        Entry entry = entries.compute(key, (k, existing) ->
+                existing == null || !existing.candidates.equals(described) ? new Entry(described) : existing);
+        synchronized (entry) {
+            entry.winner = winner.toString();
+            entry.hits.merge(entry.winner, 1, Integer::sum);
+            entry.lastMatched = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Elements whose primary (first declared) locator is not the one that matches
+     * @return Key -> description of the drift
+     */
+    public Map<String, String> getDrift() {
+        load();
+        Map<String, String> drift = new TreeMap<>();
+        for (Map.Entry<String, Entry> e : entries.entrySet()) {
+            Entry entry = e.getValue();
+            synchronized (entry) {
+                if (entry.winner == null || entry.candidates.isEmpty()
+                        || entry.winner.equals(entry.candidates.get(0))) {
+                    continue;
+                }
+                int primaryHits = entry.hits.getOrDefault(entry.candidates.get(0), 0);
+                drift.put(e.getKey(), "primary [" + entry.candidates.get(0) + "] matched " + primaryHits + "x, "
+                        + "now matching candidate #" + (entry.candidates.indexOf(entry.winner) + 1)
+                        + " [" + entry.winner + "] " + entry.hits.getOrDefault(entry.winner, 0) + "x");
+            }
+        }
+        return drift;
+    }
+
+    /**
+     * Persist the cache to target/locator-cache.json
+     */
+    public void save() {
+        if (!isEnabled() || entries.isEmpty()) {
+            return;
+        }
+        Map<String, Object> json = new TreeMap<>();
+        for (Map.Entry<String, Entry> e : entries.entrySet()) {
+            Entry entry = e.getValue();
+            synchronized (entry) {
+                Map<String, Object> value = new LinkedHashMap<>();
+                value.put("candidates", entry.candidates);
+                value.put("winner", entry.winner);
+                value.put("hits", new LinkedHashMap<>(entry.hits));
+                value.put("lastMatched", entry.lastMatched);
+                json.put(e.getKey(), value);
+            }
+        }
+        try {
+            Files.createDirectories(CACHE_FILE.getParent());
+            Files.write(CACHE_FILE, JSON.toJson(json).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            System.out.println("✗ Failed to save locator cache: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Write the drift report to target/locator-drift-report.txt and print a summary
+     * @return Path of the report
+     */
+    public Path writeDriftReport() {
+        Map<String, String> drift = getDrift();
+        StringBuilder report = new StringBuilder("Locator drift report\n");
+        report.append("Elements tracked: ").append(entries.size())
+                .append(", drifting: ").append(drift.size()).append("\n\n");
+        for (Map.Entry<String, String> e : drift.entrySet()) {
+            report.append("⚠ ").append(e.getKey()).append(": ").append(e.getValue()).append("\n");
+        }
+        try {
+            Files.createDirectories(REPORT_FILE.getParent());
+            Files.write(REPORT_FILE, report.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            System.out.println("✗ Failed to write locator drift report: " + e.getMessage());
+        }
+        if (!drift.isEmpty()) {
+            System.out.println("⚠ " + drift.size() + " locator(s) drifting, see " + REPORT_FILE);
+        }
+        return REPORT_FILE;
+    }
+
+    private Entry getEntry(String key) {
+        load();
+        return entries.get(key);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void load() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+            loaded = true;
+            if (!Files.exists(CACHE_FILE)) {
+                return;
+            }
+            try {
+                String content = new String(Files.readAllBytes(CACHE_FILE), StandardCharsets.UTF_8);
+                Map<String, Object> json = JSON.toType(content, Json.MAP_TYPE);
+                for (Map.Entry<String, Object> e : json.entrySet()) {
+                    Map<String, Object> value = (Map<String, Object>) e.getValue();
+                    Entry entry = new Entry((List<String>) value.get("candidates"));
+                    entry.winner = (String) value.get("winner");
+                    Map<String, Object> hits = (Map<String, Object>) value.get("hits");
+                    if (hits != null) {
+                        hits.forEach((k, v) -> entry.hits.put(k, ((Number) v).intValue()));
+                    }
+                    Object lastMatched = value.get("lastMatched");
+                    entry.lastMatched = lastMatched instanceof Number ? ((Number) lastMatched).longValue() : 0L;
+                    entries.putIfAbsent(e.getKey(), entry);
+                }
+            } catch (Exception e) {
+                System.out.println("⚠ Ignoring unreadable locator cache: " + e.getMessage());
+            }
+        }
+    }
+
+    private static List<String> describe(List<By> candidates) {
+        List<String> described = new ArrayList<>(candidates.size());
+        for (By by : candidates) {
+            described.add(by.toString());
+        }
+        return described;
+    }
+
+    /**
+     * Cached knowledge about one logical element
+     */
+    private static final class Entry {
+        private final List<String> candidates;
+        private final Map<String, Integer> hits = new LinkedHashMap<>();
+        private String winner;
+        private long lastMatched;
+
+        private Entry(List<String> candidates) {
+            this.candidates = candidates == null ? new ArrayList<>() : new ArrayList<>(candidates);
+        }
+    }
+}
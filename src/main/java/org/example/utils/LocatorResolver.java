@@ -0,0 +1,263 @@
+package org.example.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Resolves a list of fallback locators in a single browser round trip
+ * All candidates are evaluated by one script, in order, and the first node
+ * that is visible and enabled wins. XPath unions ("a | b") are handled too:
+ * hidden members of the union are skipped instead of hiding the visible one.
+ * Supported locator types: xpath, cssSelector, id, name, className, tagName
+ *
+ * The keyed variants (e.g. key "LoginPage.username") consult LocatorCache:
+ * the candidate that matched last time is tried first and every match is
+ * recorded, so fallbacks that keep winning show up in the drift report.
+ */
+public class LocatorResolver {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(100);
+
+    // JS helpers shared with BatchFormFiller: usable(el), find(type, value) and
+    // locate(candidates), which returns [index, element] of the first usable match or null
+    static final String FIND_HELPERS =
+            "var usable = function(el) {" +
+            "  if (!el || el.nodeType !== 1) return false;" +
+            "  var style = getComputedStyle(el);" +
+            "  if (style.visibility === 'hidden' || style.display === 'none') return false;" +
+            "  if (el.getClientRects().length === 0) return false;" +
+            "  return !el.disabled && el.getAttribute('aria-disabled') !== 'true';" +
+            "};" +
+            "var find = function(type, value) {" +
+            "  if (type === 'xpath') {" +
+            "    var r = document.evaluate(value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);" +
+            "    var nodes = [];" +
+            "    for (var i = 0; i < r.snapshotLength; i++) nodes.push(r.snapshotItem(i));" +
+            "    return nodes;" +
+            "  }" +
+            "  return Array.prototype.slice.call(document.querySelectorAll(value));" +
+            "};" +
+            "var locate = function(candidates) {" +
+            "  for (var c = 0; c < candidates.length; c++) {" +
+            "    var nodes;" +
+            "    try { nodes = find(candidates[c][0], candidates[c][1]); } catch (e) { continue; }" +
+            "    for (var n = 0; n < nodes.length; n++) if (usable(nodes[n])) return [c, nodes[n]];" +
+            "  }" +
+            "  return null;" +
+            "};";
+
+    // arguments[0] = [[type, value], ...]; returns [index, element] or null
+    private static final String RESOLVE_SCRIPT =
+            FIND_HELPERS +
+            "return locate(arguments[0]);";
+
+    private final WebDriver driver;
+
+    public LocatorResolver(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Evaluate all candidates once, in a single script call
+     * @param candidates Locators in order of preference
+     * @return First visible, enabled match, or null if none matched
+     */
+    public Match resolve(By... candidates) {
+        return resolve(Arrays.asList(candidates));
+    }
+
+    /**
+     * Evaluate all candidates once, in a single script call
+     * @param candidates Locators in order of preference
+     * @return First visible, enabled match, or null if none matched
+     */
+    public Match resolve(List<By> candidates) {
+        List<List<String>> encoded = new ArrayList<>();
+        for (By by : candidates) {
+            encoded.add(encode(by));
+        }
+
+        Object result = ((JavascriptExecutor) driver).executeScript(RESOLVE_SCRIPT, encoded);
+        if (!(result instanceof List)) {
+            return null;
+        }
+        List<?> pair = (List<?>) result;
+        int index = ((Number) pair.get(0)).intValue();
+        return new Match(index, candidates.get(index), (WebElement) pair.get(1));
+    }
+
+    /**
+     * Poll until one of the candidates is visible and enabled
+     * Each poll is a single round trip, however many candidates there are
+     * @param timeout Maximum time to wait
+     * @param candidates Locators in order of preference
+     * @return First usable match
+     * @throws TimeoutException if nothing matched in time
+     */
+    public Match waitForFirst(Duration timeout, By... candidates) {
+        return waitForFirst(timeout, Arrays.asList(candidates));
+    }
+
+    /**
+     * Poll until one of the candidates is visible and enabled
+     * @param timeout Maximum time to wait
+     * @param candidates Locators in order of preference
+     * @return First usable match
+     * @throws TimeoutException if nothing matched in time
+     */
+    public Match waitForFirst(Duration timeout, List<By> candidates) {
+        try {
+            return new WebDriverWait(driver, timeout)
+                    .pollingEvery(POLL_INTERVAL)
+                    .ignoring(JavascriptException.class)
+                    .until(d -> resolve(candidates));
+        } catch (TimeoutException e) {
+            throw new TimeoutException("None of " + candidates.size() + " locators became usable: " + candidates, e);
+        }
+    }
+
+    /**
+     * Convenience for a single locator or XPath union
+     * @param timeout Maximum time to wait
+     * @param locator Locator to resolve
+     * @return First visible, enabled element
+     */
+    public WebElement waitForElement(Duration timeout, By locator) {
+        return waitForFirst(timeout, locator).getElement();
+    }
+
+    /**
+     * Poll for the first usable candidate, using and updating the locator cache
+     * @param key Page and logical element name, e.g. "LoginPage.username"
+     * @param timeout Maximum time to wait
+     * @param candidates Locators in declared order (first = primary)
+     * @return First usable match; getLocator() is the candidate that won
+     */
+    public Match waitForFirst(String key, Duration timeout, By... candidates) {
+        List<By> declared = Arrays.asList(candidates);
+        Match match = waitForFirst(timeout, LocatorCache.getInstance().order(key, declared));
+        LocatorCache.getInstance().record(key, declared, match.getLocator());
+        return match;
+    }
+
+    /**
+     * Resolve a single locator through the cache; XPath unions are split into
+     * their branches so the cache can tell which branch matched
+     * @param key Page and logical element name, e.g. "AddUserPage.firstName"
+     * @param timeout Maximum time to wait
+     * @param locator Locator or XPath union
+     * @return First visible, enabled element
+     */
+    public WebElement waitForElement(String key, Duration timeout, By locator) {
+        return waitForFirst(key, timeout, splitUnion(locator).toArray(new By[0])).getElement();
+    }
+
+    /**
+     * Split a top-level XPath union ("a | b") into separate locators
+     * Pipes inside predicates, parentheses or string literals are left alone
+     * @param locator Any locator
+     * @return The union branches, or the locator itself if it is not a union
+     */
+    static List<By> splitUnion(By locator) {
+        List<String> encoded = encode(locator);
+        if (!"xpath".equals(encoded.get(0))) {
+            return Arrays.asList(locator);
+        }
+        String xpath = encoded.get(1);
+        List<By> branches = new ArrayList<>();
+        int depth = 0;
+        char quote = 0;
+        int start = 0;
+        for (int i = 0; i < xpath.length(); i++) {
+            char c = xpath.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == '[' || c == '(') {
+                depth++;
+            } else if (c == ']' || c == ')') {
+                depth--;
+            } else if (c == '|' && depth == 0) {
+                branches.add(By.xpath(xpath.substring(start, i).trim()));
+                start = i + 1;
+            }
+        }
+        if (branches.isEmpty()) {
+            return Arrays.asList(locator);
+        }
+        branches.add(By.xpath(xpath.substring(start).trim()));
+        return branches;
+    }
+
+    /**
+     * Translate a By into [type, expression] for the resolver script
+     * @param by Selenium locator
+     * @return Two-element list: "xpath" or "css", and the expression
+     */
+    static List<String> encode(By by) {
+        String text = by.toString();
+        int colon = text.indexOf(':');
+        if (!text.startsWith("By.") || colon < 0) {
+            throw new IllegalArgumentException("Unsupported locator: " + text);
+        }
+        String type = text.substring(3, colon);
+        String value = text.substring(colon + 1).trim();
+
+        switch (type) {
+            case "xpath":
+                return Arrays.asList("xpath", value);
+            case "cssSelector":
+                return Arrays.asList("css", value);
+            case "id":
+                return Arrays.asList("css", "[id=\"" + value.replace("\"", "\\\"") + "\"]");
+            case "name":
+                return Arrays.asList("css", "[name=\"" + value.replace("\"", "\\\"") + "\"]");
+            case "className":
+                return Arrays.asList("css", "." + value);
+            case "tagName":
+                return Arrays.asList("css", value);
+            default:
+                throw new IllegalArgumentException("Unsupported locator type: " + type);
+        }
+    }
+
+    /**
+     * Result of a resolution: the element and which candidate found it
+     */
+    public static class Match {
+        private final int index;
+        private final By locator;
+        private final WebElement element;
+
+        Match(int index, By locator, WebElement element) {
+            this.index = index;
+            this.locator = locator;
+            this.element = element;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public By getLocator() {
+            return locator;
+        }
+
+        public WebElement getElement() {
+            return element;
+        }
+    }
+}
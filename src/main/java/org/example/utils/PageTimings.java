@@ -0,0 +1,297 @@
+package org.example.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Browser timings of page transitions (login, menu navigation, search, save)
+ * Page objects call begin() before the action and end() once the target
+ * screen is reached. end() reads the Navigation Timing entry (when a new
+ * document was loaded during the transition) and the Resource Timing
+ * entries fetched since begin(), so both full page loads and SPA route
+ * changes are covered. Transitions are kept per thread until drain().
+ *
+ * The duration is measured on the browser clock from begin() until end()
+ * ran, so it includes the test's wait polling; loadedMs is the new
+ * document's DOMContentLoaded relative to begin().
+ *
+ *   -Dpage.timings=false   record nothing
+ *   -Dsla.<name>=N         fail with an AssertionError when transition <name>
+ *                          takes longer than N ms (names: login, userManagement, searchUser, saveUser)
+ */
+public final class PageTimings {
+
+    private static final Path OUTPUT_DIR = Paths.get("target", "page-timings");
+    private static final Json JSON = new Json();
+
+    private static final String CLOCK =
+            "var origin = performance.timeOrigin || performance.timing.navigationStart;";
+
+    private static final String BEGIN_SCRIPT =
+            CLOCK +
+            "try { performance.setResourceTimingBufferSize(1000); } catch (e) {}" +
+            "return origin + performance.now();";
+
+    // arguments[0] = begin time (epoch ms on the browser clock)
+    private static final String END_SCRIPT =
+            CLOCK +
+            "var begin = arguments[0], since = begin - origin;" +
+            "var result = { begin: begin, end: origin + performance.now(), navigation: null };" +
+            "var nav = performance.getEntriesByType('navigation')[0];" +
+            "if (nav && since <= 0) {" +
+            "  result.navigation = { url: nav.name, type: nav.type," +
+            "    ttfbMs: Math.round(nav.responseStart - since), loadedMs: Math.round(nav.domContentLoadedEventEnd - since)," +
+            "    loadEventMs: nav.loadEventEnd > 0 ? Math.round(nav.loadEventEnd - since) : null," +
+            "    transferBytes: nav.transferSize || 0 };" +
+            "}" +
+            "var resources = performance.getEntriesByType('resource').filter(function(r) { return r.startTime >= since; });" +
+            "var bytes = 0;" +
+            "resources.forEach(function(r) { bytes += r.transferSize || 0; });" +
+            "result.resourceCount = resources.length;" +
+            "result.transferBytes = bytes;" +
+            "result.slowest = resources.slice().sort(function(a, b) { return b.duration - a.duration; }).slice(0, 5)" +
+            "  .map(function(r) { return { url: r.name, type: r.initiatorType, durationMs: Math.round(r.duration) }; });" +
+            "return result;";
+
+    // Transition name -> begin time, for the current thread
+    private static final ThreadLocal<Map<String, Double>> PENDING = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<List<Transition>> RECORDED = ThreadLocal.withInitial(ArrayList::new);
+
+    private PageTimings() {
+    }
+
+    /**
+     * Check if transitions are recorded
+     * @return false if -Dpage.timings=false
+     */
+    public static boolean isEnabled() {
+        return !"false".equalsIgnoreCase(System.getProperty("page.timings"));
+    }
+
+    /**
+     * Mark the start of a transition
+     * @param driver Driver performing the action
+     * @param name Transition name, e.g. "login"
+     */
+    public static void begin(WebDriver driver, String name) {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            Object begin = ((JavascriptExecutor) driver).executeScript(BEGIN_SCRIPT);
+            if (begin instanceof Number) {
+                PENDING.get().put(name, ((Number) begin).doubleValue());
+            }
+        } catch (Exception e) {
+            System.out.println("⚠ Could not start timing " + name + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Finish a transition started with begin() and check its SLA
+     * Does nothing if the transition was not started on this thread
+     * @param driver Driver performing the action
+     * @param name Transition name
+     * @return Recorded transition, or null
+     * @throws AssertionError if -Dsla.<name> is set and the transition took longer
+     */
+    @SuppressWarnings("unchecked")
+    public static Transition end(WebDriver driver, String name) {
+        Double begin = PENDING.get().remove(name);
+        if (begin == null) {
+            return null;
+        }
+        Transition transition;
+        try {
+            Map<String, Object> result = (Map<String, Object>) ((JavascriptExecutor) driver).executeScript(END_SCRIPT, begin);
+            transition = new Transition(name, result);
+        } catch (Exception e) {
+            System.out.println("⚠ Could not read timing " + name + ": " + e.getMessage());
+            return null;
+        }
+        RECORDED.get().add(transition);
+        System.out.println("✓ " + transition);
+
+        Long sla = Long.getLong("sla." + name);
+        if (sla != null && transition.getDurationMillis() > sla) {
+            throw new AssertionError("SLA breached: " + name + " took " + transition.getDurationMillis()
+                    + " ms, allowed " + sla + " ms");
+        }
+        return transition;
+    }
+
+    /**
+     * Transitions recorded on this thread so far
+     * @return Transitions in completion order
+     */
+    public static List<Transition> getTransitions() {
+        return Collections.unmodifiableList(new ArrayList<>(RECORDED.get()));
+    }
+
+    /**
+     * Find the last recorded transition with a name
+     * @param name Transition name
+     * @return Transition, or null if none was recorded on this thread
+     */
+    public static Transition getTransition(String name) {
+        List<Transition> transitions = RECORDED.get();
+        for (int i = transitions.size() - 1; i >= 0; i--) {
+            if (transitions.get(i).getName().equals(name)) {
+                return transitions.get(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Return this thread's transitions and forget them, e.g. when a test ends
+     * @return Transitions in completion order
+     */
+    public static List<Transition> drain() {
+        List<Transition> transitions = getTransitions();
+        RECORDED.remove();
+        PENDING.remove();
+        return transitions;
+    }
+
+    /**
+     * Write transitions to target/page-timings/<name>.json
+     * @param name File name, e.g. "UserManagementTest.testSearchUser"
+     * @param transitions Transitions to write
+     * @return Written file, or null if there was nothing to write
+     */
+    public static Path write(String name, List<Transition> transitions) {
+        if (transitions.isEmpty()) {
+            return null;
+        }
+        List<Map<String, Object>> json = new ArrayList<>();
+        for (Transition transition : transitions) {
+            json.add(transition.toJson());
+        }
+        Path file = OUTPUT_DIR.resolve(name.replaceAll("[^A-Za-z0-9._-]", "_") + ".json");
+        try {
+            Files.createDirectories(OUTPUT_DIR);
+            Files.write(file, JSON.toJson(json).getBytes(StandardCharsets.UTF_8));
+            return file;
+        } catch (IOException e) {
+            System.out.println("✗ Failed to write page timings: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Timings of one transition
+     */
+    public static final class Transition {
+        private final String name;
+        private final double beginEpochMillis;
+        private final double endEpochMillis;
+        private final long durationMillis;
+        private final Map<String, Object> navigation;
+        private final long resourceCount;
+        private final long transferBytes;
+        private final List<Object> slowestResources;
+
+        @SuppressWarnings("unchecked")
+        private Transition(String name, Map<String, Object> result) {
+            this.name = name;
+            this.beginEpochMillis = number(result.get("begin"));
+            this.endEpochMillis = number(result.get("end"));
+            this.durationMillis = Math.round(endEpochMillis - beginEpochMillis);
+            this.navigation = (Map<String, Object>) result.get("navigation");
+            this.resourceCount = Math.round(number(result.get("resourceCount")));
+            this.transferBytes = Math.round(number(result.get("transferBytes")));
+            Object slowest = result.get("slowest");
+            this.slowestResources = slowest instanceof List ? (List<Object>) slowest : Collections.emptyList();
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Start of the transition on the browser clock
+         * @return Epoch milliseconds
+         */
+        public double getBeginEpochMillis() {
+            return beginEpochMillis;
+        }
+
+        /**
+         * End of the transition on the browser clock
+         * @return Epoch milliseconds
+         */
+        public double getEndEpochMillis() {
+            return endEpochMillis;
+        }
+
+        /**
+         * Time from begin() until the target screen was reached
+         * @return Milliseconds
+         */
+        public long getDurationMillis() {
+            return durationMillis;
+        }
+
+        /**
+         * Navigation Timing of the document loaded during the transition
+         * @return url, type, ttfbMs, loadedMs, loadEventMs, transferBytes; null for an in-page route change
+         */
+        public Map<String, Object> getNavigation() {
+            return navigation;
+        }
+
+        public long getResourceCount() {
+            return resourceCount;
+        }
+
+        public long getTransferBytes() {
+            return transferBytes;
+        }
+
+        /**
+         * Up to five slowest resources fetched during the transition
+         * @return Maps with url, type and durationMs
+         */
+        public List<Object> getSlowestResources() {
+            return slowestResources;
+        }
+
+        public Map<String, Object> toJson() {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("name", name);
+            json.put("durationMs", durationMillis);
+            json.put("navigation", navigation);
+            json.put("resourceCount", resourceCount);
+            json.put("transferBytes", transferBytes);
+            json.put("slowestResources", slowestResources);
+            return json;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "Transition %s: %d ms%s, %d resources, %.1f KB",
+                    name, durationMillis,
+                    navigation == null ? " (route change)" : " (page load, DOM ready at " + navigation.get("loadedMs") + " ms)",
+                    resourceCount, transferBytes / 1024.0);
+        }
+
+        private static double number(Object value) {
+            return value instanceof Number ? ((Number) value).doubleValue() : 0;
+        }
+    }
+}
@@ -3,17 +3,29 @@ package org.example.utils;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
-import org.apache.commons.io.FileUtils;
 
-import java.io.File;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 
 /**
  * Utility class to capture and save screenshots during test execution
+ * Screenshots are taken as PNG bytes and written directly (no temp file copy).
+ * With -Dscreenshot.async=true the write happens on a background thread and
+ * the capture methods return as soon as the browser has produced the image;
+ * call drain() at the end of the suite so nothing is lost.
+ *   -Dscreenshot.queue=N   maximum screenshots waiting to be written (default: 32)
  */
 public class ScreenshotUtil {
 
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss");
+    private static final Path ROOT_DIR = Paths.get(System.getProperty("user.dir"), "test-screenshots");
+
+    // Created on first async capture
+    private static volatile AsyncScreenshotWriter asyncWriter;
+
     /**
      * Captures screenshot and saves it with a timestamp and test name
      * @param driver WebDriver instance
@@ -21,36 +33,7 @@ public class ScreenshotUtil {
      * @return Path to the saved screenshot
      */
     public static String captureScreenshot(WebDriver driver, String testName) {
-        try {
-            // Create screenshots directory if it doesn't exist
-            String screenshotDir = System.getProperty("user.dir") + File.separator + "test-screenshots" + File.separator;
-            File directory = new File(screenshotDir);
-            if (!directory.exists()) {
-                directory.mkdirs();
-            }
-
-            // Generate timestamp
-            String timestamp = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
-
-            // Generate filename
-            String fileName = testName + "_" + timestamp + ".png";
-            String filePath = screenshotDir + fileName;
-
-            // Take screenshot
-            TakesScreenshot screenshot = (TakesScreenshot) driver;
-            File sourceFile = screenshot.getScreenshotAs(OutputType.FILE);
-            File destinationFile = new File(filePath);
-
-            // Copy to destination
-            FileUtils.copyFile(sourceFile, destinationFile);
-
-            System.out.println("✓ Screenshot saved: " + filePath);
-            return filePath;
-
-        } catch (Exception e) {
-            System.out.println("✗ Failed to capture screenshot: " + e.getMessage());
-            return null;
-        }
+        return save(driver, ROOT_DIR, testName + "_" + timestamp() + ".png");
     }
 
     /**
@@ -61,38 +44,7 @@ public class ScreenshotUtil {
      * @return Path to the saved screenshot
      */
     public static String captureScreenshot(WebDriver driver, String testName, String subFolder) {
-        try {
-            // Create screenshots directory with subfolder
-            String screenshotDir = System.getProperty("user.dir") + File.separator +
-                    "test-screenshots" + File.separator +
-                    subFolder + File.separator;
-            File directory = new File(screenshotDir);
-            if (!directory.exists()) {
-                directory.mkdirs();
-            }
-
-            // Generate timestamp
-            String timestamp = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
-
-            // Generate filename
-            String fileName = testName + "_" + timestamp + ".png";
-            String filePath = screenshotDir + fileName;
-
-            // Take screenshot
-            TakesScreenshot screenshot = (TakesScreenshot) driver;
-            File sourceFile = screenshot.getScreenshotAs(OutputType.FILE);
-            File destinationFile = new File(filePath);
-
-            // Copy to destination
-            FileUtils.copyFile(sourceFile, destinationFile);
-
-            System.out.println("✓ Screenshot saved: " + filePath);
-            return filePath;
-
-        } catch (Exception e) {
-            System.out.println("✗ Failed to capture screenshot: " + e.getMessage());
-            return null;
-        }
+        return save(driver, ROOT_DIR.resolve(subFolder), testName + "_" + timestamp() + ".png");
     }
 
     /**
@@ -103,29 +55,71 @@ public class ScreenshotUtil {
      * @return Path to the saved screenshot
      */
     public static String captureScreenshotNoTimestamp(WebDriver driver, String fileName, String subFolder) {
-        try {
-            String screenshotDir = System.getProperty("user.dir") + File.separator +
-                    "test-screenshots" + File.separator +
-                    subFolder + File.separator;
-            File directory = new File(screenshotDir);
-            if (!directory.exists()) {
-                directory.mkdirs();
-            }
-
-            String filePath = screenshotDir + fileName + ".png";
+        return save(driver, ROOT_DIR.resolve(subFolder), fileName + ".png");
+    }
 
-            TakesScreenshot screenshot = (TakesScreenshot) driver;
-            File sourceFile = screenshot.getScreenshotAs(OutputType.FILE);
-            File destinationFile = new File(filePath);
+    /**
+     * Check if screenshots are written on a background thread
+     * @return true if -Dscreenshot.async=true
+     */
+    public static boolean isAsync() {
+        return Boolean.getBoolean("screenshot.async");
+    }
 
-            FileUtils.copyFile(sourceFile, destinationFile);
+    /**
+     * Wait for all queued screenshots to be written
+     * Safe to call when async mode was never used
+     * @param timeoutMillis Maximum time to wait
+     * @return true if nothing is left pending
+     */
+    public static boolean drain(long timeoutMillis) {
+        AsyncScreenshotWriter writer = asyncWriter;
+        if (writer == null) {
+            return true;
+        }
+        boolean drained = writer.drain(timeoutMillis);
+        System.out.println("✓ Screenshot writer: " + writer.getWrittenCount() + " written, "
+                + writer.getFailedCount() + " failed, " + writer.getPendingCount() + " pending");
+        return drained;
+    }
 
-            System.out.println("✓ Screenshot saved: " + filePath);
-            return filePath;
+    private static String save(WebDriver driver, Path directory, String fileName) {
+        Path target = directory.resolve(fileName);
+        try {
+            // Take screenshot as bytes - avoids the driver's temp file and a second copy
+            byte[] png = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+
+            if (isAsync()) {
+                getAsyncWriter().submit(target, png);
+                System.out.println("✓ Screenshot queued: " + target);
+            } else {
+                Files.createDirectories(directory);
+                Files.write(target, png);
+                System.out.println("✓ Screenshot saved: " + target);
+            }
+            return target.toString();
 
         } catch (Exception e) {
             System.out.println("✗ Failed to capture screenshot: " + e.getMessage());
             return null;
         }
     }
-}
\ No newline at end of file
+
+    private static AsyncScreenshotWriter getAsyncWriter() {
+        AsyncScreenshotWriter writer = asyncWriter;
+        if (writer == null) {
+            synchronized (ScreenshotUtil.class) {
+                writer = asyncWriter;
+                if (writer == null) {
+                    writer = new AsyncScreenshotWriter(Integer.getInteger("screenshot.queue", 32));
+                    asyncWriter = writer;
+                }
+            }
+        }
+        return writer;
+    }
+
+    private static String timestamp() {
+        return LocalDateTime.now().format(TIMESTAMP);
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+/**
+ * Browser session id of a driver, also through decorators
+ * An EventFiringDecorator proxy is not a RemoteWebDriver, so it is unwrapped
+ * (WrapsDriver) until the remote driver is reached
+ */
+public final class SessionIds {
+
+    private SessionIds() {
+    }
+
+    /**
+     * Get the session id of a driver
+     * @param driver Plain or decorated driver
+     * @return Session id, or an identity hash for drivers without one
+     */
+    public static String of(WebDriver driver) {
+        WebDriver target = driver;
+        while (target instanceof WrapsDriver && !(target instanceof RemoteWebDriver)) {
+            target = ((WrapsDriver) target).getWrappedDriver();
+        }
+        return target instanceof RemoteWebDriver && ((RemoteWebDriver) target).getSessionId() != null
+                ? ((RemoteWebDriver) target).getSessionId().toString()
+                : String.valueOf(System.identityHashCode(target));
+    }
+}
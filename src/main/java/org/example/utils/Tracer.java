@@ -0,0 +1,162 @@
+package org.example.utils;
+
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Timing spans for page-object steps, exported in Chrome trace-event format
+ * Open a span around a step with try-with-resources; spans opened inside it on
+ * the same thread show up nested below it. write() saves all spans of the run
+ * to target/traces/trace-<timestamp>.json, which chrome://tracing, Perfetto
+ * (ui.perfetto.dev) or speedscope open as a timeline / flame chart.
+ *
+ *   try (Tracer.Span span = Tracer.span("LoginPage.login")) {
+ *       ...
+ *   }
+ *
+ *   -Dtrace=false   record nothing
+ */
+public final class Tracer {
+
+    private static final Path OUTPUT_DIR = Paths.get("target", "traces");
+    private static final long ORIGIN_NANOS = System.nanoTime();
+    private static final Span NO_OP = new Span(null);
+
+    // Completed events, in completion order
+    private static final Queue<Map<String, Object>> EVENTS = new ConcurrentLinkedQueue<>();
+    // Thread id -> name, emitted as metadata so the viewer labels the rows
+    private static final Map<Long, String> THREADS = new ConcurrentHashMap<>();
+
+    private Tracer() {
+    }
+
+    /**
+     * Check if spans are recorded
+     * @return false if -Dtrace=false
+     */
+    public static boolean isEnabled() {
+        return !"false".equalsIgnoreCase(System.getProperty("trace"));
+    }
+
+    /**
+     * Start a span on the current thread
+     * @param name Step name, e.g. "AddUserPage.fillUserForm"
+     * @return Span to close when the step ends
+     */
+    public static Span span(String name) {
+        return isEnabled() ? new Span(name) : NO_OP;
+    }
+
+    /**
+     * Write all spans recorded so far and clear them
+     * @return Path of the trace file, or null if there was nothing to write
+     */
+    public static Path write() {
+        List<Map<String, Object>> events = new ArrayList<>();
+        THREADS.forEach((tid, name) -> {
+            Map<String, Object> meta = new LinkedHashMap<>();
+            meta.put("name", "thread_name");
+            meta.put("ph", "M");
+            meta.put("pid", 1);
+            meta.put("tid", tid);
+            meta.put("args", Collections.singletonMap("name", name));
+            events.add(meta);
+        });
+        Map<String, Object> event;
+        int spans = 0;
+        while ((event = EVENTS.poll()) != null) {
+            events.add(event);
+            spans++;
+        }
+        if (spans == 0) {
+            return null;
+        }
+
+        Map<String, Object> trace = new LinkedHashMap<>();
+        trace.put("traceEvents", events);
+        trace.put("displayTimeUnit", "ms");
+        try {
+            Files.createDirectories(OUTPUT_DIR);
+            Path file = OUTPUT_DIR.resolve("trace-" + new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date()) + ".json");
+            Files.write(file, new Json().toJson(trace).getBytes(StandardCharsets.UTF_8));
+            System.out.println("✓ Trace with " + spans + " spans written to " + file);
+            return file;
+        } catch (IOException e) {
+            System.out.println("⚠ Could not write trace: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static long nowMicros() {
+        return (System.nanoTime() - ORIGIN_NANOS) / 1_000;
+    }
+
+    /**
+     * One timed step; recorded as a complete ("X") event when closed
+     */
+    public static final class Span implements AutoCloseable {
+        private final String name;
+        private final long startMicros;
+        private Map<String, Object> args;
+        private boolean closed;
+
+        private Span(String name) {
+            this.name = name;
+            this.startMicros = name == null ? 0 : nowMicros();
+        }
+
+        /**
+         * Attach a value shown with the span in the viewer
+         * @param key Argument name
+         * @param value Argument value
+         * @return this
+         */
+        public Span arg(String key, Object value) {
+            if (name != null) {
+                if (args == null) {
+                    args = new LinkedHashMap<>();
+                }
+                args.put(key, String.valueOf(value));
+            }
+            return this;
+        }
+
+        @Override
+        public void close() {
+            if (name == null || closed) {
+                return;
+            }
+            closed = true;
+            Thread thread = Thread.currentThread();
+            THREADS.putIfAbsent(thread.getId(), thread.getName());
+
+            Map<String, Object> event = new LinkedHashMap<>();
+            event.put("name", name);
+            event.put("cat", name.contains(".") ? name.substring(0, name.indexOf('.')) : "step");
+            event.put("ph", "X");
+            event.put("ts", startMicros);
+            event.put("dur", Math.max(1, nowMicros() - startMicros));
+            event.put("pid", 1);
+            event.put("tid", thread.getId());
+            if (args != null) {
+                event.put("args", args);
+            }
+            EVENTS.add(event);
+        }
+    }
+}
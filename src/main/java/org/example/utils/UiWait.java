@@ -0,0 +1,193 @@
+package org.example.utils;
+
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Condition-driven waits for the AgriGEN (MUI) front end
+ * Replaces fixed Thread.sleep calls: every method polls the browser and
+ * returns as soon as the UI is ready, so a step waits only as long as the app needs
+ *
+ * The UI counts as quiet when:
+ *   - no MUI CircularProgress / LinearProgress is visible
+ *   - no menu, popover or dialog is still fading in or out
+ *   - the DOM has not changed for QUIET_WINDOW_MS
+ */
+public class UiWait {
+
+    // How long the DOM must stay unchanged to count as settled
+    public static final long QUIET_WINDOW_MS = 250;
+    // Upper bound for waiting on a table refresh that may produce identical rows
+    public static final long TABLE_REFRESH_CAP_MS = 1000;
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(50);
+
+    // Installs a MutationObserver once per document and reports the UI state
+    private static final String PROBE_SCRIPT =
+            "var w = window;" +
+            "if (!w.__uiWait) {" +
+            "  w.__uiWait = { last: Date.now() };" +
+            "  new MutationObserver(function() { w.__uiWait.last = Date.now(); })" +
+            "    .observe(document.documentElement, { childList: true, subtree: true, attributes: true, characterData: true });" +
+            "}" +
+            "var visible = function(el) { var r = el.getBoundingClientRect(); return r.width > 0 && r.height > 0; };" +
+            "var spinner = Array.prototype.some.call(" +
+            "  document.querySelectorAll('.MuiCircularProgress-root, .MuiLinearProgress-root'), visible);" +
+            "var moving = Array.prototype.some.call(" +
+            "  document.querySelectorAll('.MuiPopover-paper, .MuiMenu-paper, .MuiDialog-paper'), function(el) {" +
+            "    return parseFloat(getComputedStyle(el).opacity) < 1; });" +
+            "return { quietFor: Date.now() - w.__uiWait.last, spinner: spinner, moving: moving," +
+            "  ready: document.readyState === 'complete' };";
+
+    private static final String MENU_OPEN_SCRIPT =
+            "var papers = document.querySelectorAll('.MuiPopover-paper, .MuiMenu-paper');" +
+            "for (var i = 0; i < papers.length; i++) {" +
+            "  if (parseFloat(getComputedStyle(papers[i]).opacity) === 1 && papers[i].querySelector('li')) return true;" +
+            "}" +
+            "return false;";
+
+    private static final String MENU_CLOSED_SCRIPT =
+            "return document.querySelector('.MuiPopover-root, .MuiMenu-root') === null;";
+
+    private static final String TABLE_SIGNATURE_SCRIPT =
+            "var body = document.querySelector('tbody');" +
+            "return body ? body.rows.length + ':' + body.innerText : '';";
+
+    private final WebDriver driver;
+    private final Duration timeout;
+
+    public UiWait(WebDriver driver) {
+        this(driver, Duration.ofSeconds(15));
+    }
+
+    public UiWait(WebDriver driver, Duration timeout) {
+        this.driver = driver;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Wait until no spinner is visible, no menu is animating and the DOM is settled
+     * Never throws - a UI that keeps mutating is reported and the step continues
+     */
+    public void forQuiet() {
+        await(uiQuiet(), timeout, "UI to settle");
+    }
+
+    /**
+     * Wait until no MUI progress indicator is visible
+     */
+    public void forNoSpinner() {
+        await(noSpinner(), timeout, "loading spinner to disappear");
+    }
+
+    /**
+     * Wait until a MUI select/menu has finished opening and shows its options
+     */
+    public void forMenuOpen() {
+        await(script(MENU_OPEN_SCRIPT), timeout, "menu to open");
+    }
+
+    /**
+     * Wait until all MUI menus and popovers have finished closing
+     */
+    public void forMenuClosed() {
+        await(script(MENU_CLOSED_SCRIPT), timeout, "menu to close");
+    }
+
+    /**
+     * Wait until the URL differs from the given one, then for the UI to settle
+     * @param previousUrl URL before the navigation was triggered
+     */
+    public void forNavigation(String previousUrl) {
+        await(d -> !previousUrl.equals(d.getCurrentUrl()), timeout, "navigation from " + previousUrl);
+        forQuiet();
+    }
+
+    /**
+     * Get a signature of the current table body, to detect a re-render later
+     * @return Row count and text of the first tbody, or empty string if none
+     */
+    public String tableSignature() {
+        try {
+            Object signature = ((JavascriptExecutor) driver).executeScript(TABLE_SIGNATURE_SCRIPT);
+            return signature == null ? "" : signature.toString();
+        } catch (Exception e) {
+            return "";
+        }
+    }
+
+    /**
+     * Wait until the table has re-rendered and the UI is settled
+     * A refresh that yields identical rows cannot be observed, so the change
+     * itself is only awaited up to TABLE_REFRESH_CAP_MS
+     * @param previousSignature Value of tableSignature() before the action
+     */
+    public void forTableRefresh(String previousSignature) {
+        await(d -> !previousSignature.equals(tableSignature()),
+                Duration.ofMillis(TABLE_REFRESH_CAP_MS), null);
+        forQuiet();
+    }
+
+    /**
+     * Wait for an arbitrary condition without failing the step on timeout
+     * @param condition Condition to poll
+     * @param description Text logged on timeout
+     * @return true if the condition was met
+     */
+    public boolean until(ExpectedCondition<Boolean> condition, String description) {
+        return await(condition, timeout, description);
+    }
+
+    /**
+     * Condition: the UI is quiet (see class comment)
+     * @return ExpectedCondition usable with any WebDriverWait
+     */
+    @SuppressWarnings("unchecked")
+    public static ExpectedCondition<Boolean> uiQuiet() {
+        return d -> {
+            Map<String, Object> state = (Map<String, Object>) ((JavascriptExecutor) d).executeScript(PROBE_SCRIPT);
+            return Boolean.TRUE.equals(state.get("ready"))
+                    && !Boolean.TRUE.equals(state.get("spinner"))
+                    && !Boolean.TRUE.equals(state.get("moving"))
+                    && ((Number) state.get("quietFor")).longValue() >= QUIET_WINDOW_MS;
+        };
+    }
+
+    /**
+     * Condition: no MUI progress indicator is visible
+     * @return ExpectedCondition usable with any WebDriverWait
+     */
+    @SuppressWarnings("unchecked")
+    public static ExpectedCondition<Boolean> noSpinner() {
+        return d -> {
+            Map<String, Object> state = (Map<String, Object>) ((JavascriptExecutor) d).executeScript(PROBE_SCRIPT);
+            return !Boolean.TRUE.equals(state.get("spinner"));
+        };
+    }
+
+    private static ExpectedCondition<Boolean> script(String script) {
+        return d -> Boolean.TRUE.equals(((JavascriptExecutor) d).executeScript(script));
+    }
+
+    private boolean await(ExpectedCondition<Boolean> condition, Duration limit, String description) {
+        try {
+            new WebDriverWait(driver, limit)
+                    .pollingEvery(POLL_INTERVAL)
+                    .ignoring(JavascriptException.class)
+                    .until(condition);
+            return true;
+        } catch (TimeoutException e) {
+            if (description != null) {
+                System.out.println("⚠ Timed out after " + limit.toMillis() + " ms waiting for " + description);
+            }
+            return false;
+        }
+    }
+}
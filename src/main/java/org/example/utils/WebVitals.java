@@ -0,0 +1,346 @@
+package org.example.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Core Web Vitals (LCP, CLS, INP) of the current screen
+ * A small PerformanceObserver bootstrap keeps the largest contentful paint,
+ * the largest layout-shift session window and the longest interactions in
+ * window.__agrigenVitals. On Chrome and Edge install() registers it through
+ * CDP so it runs before the app on every document; elsewhere it is injected
+ * on the first read and picks up earlier entries from the buffered timeline.
+ * INP is the slowest interaction, ignoring one per 50 interactions.
+ *
+ * The app is a single-page app, so one document spans several screens. On
+ * every in-app route change (history.pushState / replaceState, popstate) the
+ * bootstrap starts over, so CLS and INP cover only the current screen since
+ * it was routed to. Browsers report LCP for the loaded document only, so LCP
+ * is null on screens reached by an in-app navigation (softNavigation = true).
+ *
+ * Samples taken with record() are written by write() to
+ * target/web-vitals/web-vitals-<timestamp>.json with the p75 per screen,
+ * so functional runs double as a front-end regression signal.
+ *
+ *   -Dweb.vitals=false   no bootstrap, no samples
+ */
+public final class WebVitals {
+
+    private static final Path OUTPUT_DIR = Paths.get("target", "web-vitals");
+    private static final Json JSON = new Json();
+
+    private static final String BOOTSTRAP =
+            "(function () {" +
+            "  if (window.__agrigenVitals || typeof PerformanceObserver === 'undefined') return;" +
+            "  var v = window.__agrigenVitals = { lcp: null, cls: 0, interactions: {}, observers: []," +
+            "    clsWindow: 0, clsWindowStart: 0, clsLast: 0, route: location.pathname, routeStart: 0, softNavigation: false };" +
+            "  function observe(type, callback, extra) {" +
+            "    try {" +
+            "      var options = { type: type, buffered: true };" +
+            "      for (var key in extra || {}) options[key] = extra[key];" +
+            "      var observer = new PerformanceObserver(function (list) { list.getEntries().forEach(callback); });" +
+            "      observer.observe(options);" +
+            "      v.observers.push({ observer: observer, callback: callback });" +
+            "    } catch (e) {}" +
+            "  }" +
+            "  observe('largest-contentful-paint', function (e) {" +
+            "    if (!v.softNavigation) v.lcp = e.renderTime || e.loadTime || e.startTime;" +
+            "  });" +
+            "  observe('layout-shift', function (e) {" +
+            "    if (e.hadRecentInput || e.startTime < v.routeStart) return;" +
+            "    if (v.clsWindow && e.startTime - v.clsLast < 1000 && e.startTime - v.clsWindowStart < 5000) {" +
+            "      v.clsWindow += e.value;" +
+            "    } else {" +
+            "      v.clsWindow = e.value;" +
+            "      v.clsWindowStart = e.startTime;" +
+            "    }" +
+            "    v.clsLast = e.startTime;" +
+            "    if (v.clsWindow > v.cls) v.cls = v.clsWindow;" +
+            "  });" +
+            "  var interaction = function (e) {" +
+            "    if (!e.interactionId || e.startTime < v.routeStart) return;" +
+            "    var longest = v.interactions[e.interactionId];" +
+            "    if (!longest || e.duration > longest) v.interactions[e.interactionId] = e.duration;" +
+            "  };" +
+            "  observe('event', interaction, { durationThreshold: 16 });" +
+            "  observe('first-input', interaction);" +
+            "  v.flush = function () { v.observers.forEach(function (o) { o.observer.takeRecords().forEach(o.callback); }); };" +
+            // SPA route change: start over so the values belong to the new screen
+            "  function routeChanged() {" +
+            "    if (location.pathname === v.route) return;" +
+            "    v.flush();" +
+            "    v.route = location.pathname;" +
+            "    v.routeStart = performance.now();" +
+            "    v.softNavigation = true;" +
+            "    v.lcp = null; v.cls = 0; v.clsWindow = 0; v.interactions = {};" +
+            "  }" +
+            "  ['pushState', 'replaceState'].forEach(function (name) {" +
+            "    var original = history[name];" +
+            "    history[name] = function () { var result = original.apply(this, arguments); routeChanged(); return result; };" +
+            "  });" +
+            "  window.addEventListener('popstate', routeChanged);" +
+            "})();";
+
+    private static final String READ_SCRIPT =
+            BOOTSTRAP +
+            "var v = window.__agrigenVitals;" +
+            "if (!v) return null;" +
+            "v.flush();" +
+            "var durations = Object.keys(v.interactions).map(function (k) { return v.interactions[k]; })" +
+            "  .sort(function (a, b) { return b - a; });" +
+            "var skip = Math.min(durations.length - 1, Math.floor(durations.length / 50));" +
+            "return { url: location.pathname, softNavigation: v.softNavigation," +
+            "  lcpMs: v.lcp === null ? null : Math.round(v.lcp)," +
+            "  cls: Math.round(v.cls * 10000) / 10000," +
+            "  inpMs: durations.length ? Math.round(durations[Math.max(0, skip)]) : null," +
+            "  interactions: durations.length };";
+
+    private static final Queue<Map<String, Object>> SAMPLES = new ConcurrentLinkedQueue<>();
+
+    private WebVitals() {
+    }
+
+    /**
+     * Check if Web Vitals are collected
+     * @return false if -Dweb.vitals=false
+     */
+    public static boolean isEnabled() {
+        return !"false".equalsIgnoreCase(System.getProperty("web.vitals"));
+    }
+
+    /**
+     * Run the bootstrap at the start of every document of this session (Chrome and Edge)
+     * @param driver Newly created driver
+     * @return true if registered, false if the browser has no CDP or collection is off
+     */
+    public static boolean install(WebDriver driver) {
+        WebDriver target = driver;
+        while (target instanceof WrapsDriver && !(target instanceof HasCdp)) {
+            target = ((WrapsDriver) target).getWrappedDriver();
+        }
+        if (!isEnabled() || !(target instanceof HasCdp)) {
+            return false;
+        }
+        try {
+            ((HasCdp) target).executeCdpCommand("Page.addScriptToEvaluateOnNewDocument",
+                    Collections.singletonMap("source", BOOTSTRAP));
+            return true;
+        } catch (Exception e) {
+            System.out.println("⚠ Could not install Web Vitals bootstrap: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Read the Web Vitals of the current document
+     * @param driver Driver on the screen to measure
+     * @return Snapshot, or null if the browser does not support PerformanceObserver
+     */
+    @SuppressWarnings("unchecked")
+    public static Snapshot read(WebDriver driver) {
+        Object result = ((JavascriptExecutor) driver).executeScript(READ_SCRIPT);
+        return result instanceof Map ? new Snapshot((Map<String, Object>) result) : null;
+    }
+
+    /**
+     * Read the current screen and keep the sample for write()
+     * @param driver Driver on the screen to measure
+     * @param screen Screen name, e.g. "user-list"
+     * @return Snapshot, or null if nothing could be read
+     */
+    public static Snapshot record(WebDriver driver, String screen) {
+        if (!isEnabled()) {
+            return null;
+        }
+        try {
+            Snapshot snapshot = read(driver);
+            if (snapshot != null) {
+                Map<String, Object> sample = snapshot.toJson();
+                sample.put("screen", screen);
+                SAMPLES.add(sample);
+            }
+            return snapshot;
+        } catch (Exception e) {
+            System.out.println("⚠ Could not read Web Vitals of " + screen + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Screen name of a URL path, as used for the samples
+     * @param url Page URL
+     * @return "dashboard", "add-user", "user-list", or the path
+     */
+    public static String screenOf(String url) {
+        String path = url.replaceFirst("^[a-z]+://[^/]+", "").replaceFirst("[?#].*$", "");
+        if (path.contains("/app/dashboard")) {
+            return "dashboard";
+        } else if (path.endsWith("/user/add")) {
+            return "add-user";
+        } else if (path.contains("/user-management/user")) {
+            return "user-list";
+        }
+        return path;
+    }
+
+    /**
+     * Write all samples of the run with a p75 summary per screen, and clear them
+     * @return Written file, or null if there were no samples
+     */
+    public static Path write() {
+        List<Map<String, Object>> samples = new ArrayList<>();
+        Map<String, Object> sample;
+        while ((sample = SAMPLES.poll()) != null) {
+            samples.add(sample);
+        }
+        if (samples.isEmpty()) {
+            return null;
+        }
+
+        Map<String, Map<String, Object>> screens = new TreeMap<>();
+        for (String screen : screensOf(samples)) {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("samples", samples.stream().filter(s -> screen.equals(s.get("screen"))).count());
+            summary.put("lcpMsP75", p75(samples, screen, "lcpMs"));
+            summary.put("clsP75", p75(samples, screen, "cls"));
+            summary.put("inpMsP75", p75(samples, screen, "inpMs"));
+            screens.put(screen, summary);
+        }
+
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("screens", screens);
+        json.put("samples", samples);
+        Path file = OUTPUT_DIR.resolve("web-vitals-" + System.currentTimeMillis() + ".json");
+        try {
+            Files.createDirectories(OUTPUT_DIR);
+            Files.write(file, JSON.toJson(json).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            System.out.println("✗ Failed to write Web Vitals: " + e.getMessage());
+            return null;
+        }
+        screens.forEach((screen, summary) -> System.out.println(String.format(Locale.ROOT,
+                "✓ Web Vitals %s (p75 of %s): LCP %s ms, CLS %s, INP %s ms", screen, summary.get("samples"),
+                summary.get("lcpMsP75"), summary.get("clsP75"), summary.get("inpMsP75"))));
+        return file;
+    }
+
+    private static List<String> screensOf(List<Map<String, Object>> samples) {
+        List<String> screens = new ArrayList<>();
+        for (Map<String, Object> sample : samples) {
+            if (!screens.contains(String.valueOf(sample.get("screen")))) {
+                screens.add(String.valueOf(sample.get("screen")));
+            }
+        }
+        return screens;
+    }
+
+    private static Number p75(List<Map<String, Object>> samples, String screen, String metric) {
+        List<Double> values = new ArrayList<>();
+        for (Map<String, Object> sample : samples) {
+            if (screen.equals(sample.get("screen")) && sample.get(metric) instanceof Number) {
+                values.add(((Number) sample.get(metric)).doubleValue());
+            }
+        }
+        if (values.isEmpty()) {
+            return null;
+        }
+        Collections.sort(values);
+        return values.get((int) Math.ceil(0.75 * values.size()) - 1);
+    }
+
+    /**
+     * Web Vitals of one screen at the time of reading
+     */
+    public static final class Snapshot {
+        private final String path;
+        private final boolean softNavigation;
+        private final Long lcpMillis;
+        private final double cls;
+        private final Long inpMillis;
+        private final int interactions;
+
+        private Snapshot(Map<String, Object> values) {
+            this.path = String.valueOf(values.get("url"));
+            this.softNavigation = Boolean.TRUE.equals(values.get("softNavigation"));
+            this.lcpMillis = values.get("lcpMs") instanceof Number ? ((Number) values.get("lcpMs")).longValue() : null;
+            this.cls = values.get("cls") instanceof Number ? ((Number) values.get("cls")).doubleValue() : 0;
+            this.inpMillis = values.get("inpMs") instanceof Number ? ((Number) values.get("inpMs")).longValue() : null;
+            this.interactions = values.get("interactions") instanceof Number ? ((Number) values.get("interactions")).intValue() : 0;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        /**
+         * Check if the screen was reached by an in-app route change instead of a page load
+         * @return true if the values cover only the time since that route change
+         */
+        public boolean isSoftNavigation() {
+            return softNavigation;
+        }
+
+        /**
+         * Largest Contentful Paint since the document started loading
+         * @return Milliseconds, null if nothing was painted yet or the screen was reached in-app
+         */
+        public Long getLcpMillis() {
+            return lcpMillis;
+        }
+
+        /**
+         * Cumulative Layout Shift of the current screen, largest session window
+         * @return Layout shift score
+         */
+        public double getCls() {
+            return cls;
+        }
+
+        /**
+         * Interaction to Next Paint of the current screen
+         * @return Milliseconds, null before the first click or key press
+         */
+        public Long getInpMillis() {
+            return inpMillis;
+        }
+
+        public int getInteractions() {
+            return interactions;
+        }
+
+        public Map<String, Object> toJson() {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("path", path);
+            json.put("softNavigation", softNavigation);
+            json.put("lcpMs", lcpMillis);
+            json.put("cls", cls);
+            json.put("inpMs", inpMillis);
+            json.put("interactions", interactions);
+            return json;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "LCP %s ms, CLS %.4f, INP %s ms (%d interactions) on %s",
+                    lcpMillis, cls, inpMillis, interactions, path);
+        }
+    }
+}
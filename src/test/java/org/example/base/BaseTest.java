@@ -1,117 +1,207 @@
 package org.example.base;
 
 
+import org.example.api.UserApiClient;
+import org.example.standin.StandInSuiteListener;
 import org.example.testdata.LoginTestData;
+import org.example.utils.DomSnapshotUtil;
+import org.example.utils.LocatorCache;
+import org.example.utils.PageTimings;
 import org.example.utils.ScreenshotUtil;
-import io.github.bonigarcia.wdm.WebDriverManager;
+import org.example.utils.Tracer;
+import org.example.utils.UiWait;
+import org.example.utils.WebVitals;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
-import org.openqa.selenium.edge.EdgeDriver;
-import org.openqa.selenium.edge.EdgeOptions;
-import org.openqa.selenium.firefox.FirefoxDriver;
-import org.openqa.selenium.firefox.FirefoxOptions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import org.testng.Assert;
 import org.testng.ITestResult;
+import org.testng.Reporter;
+import org.testng.SkipException;
 import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Optional;
 import org.testng.annotations.Parameters;
 
-import java.util.logging.Logger;
-import java.util.logging.Level;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
 import java.time.Duration;
 
 /**
  * Base test class for AgriGEN automation
  * All test classes should extend this class
  * Provides setup, teardown, and automatic screenshot capture on failure
+ * Drivers and page objects are held per thread (see DriverManager), so the
+ * suite can run with TestNG parallel="methods" or parallel="classes"
  */
 public class BaseTest {
-    protected WebDriver driver;
-    protected WebDriverWait wait;
-    // Use the JDK logger to avoid external logging dependency issues in the IDE/build
-    private static final Logger logger = Logger.getLogger(BaseTest.class.getName());
+    // Page objects created for the current thread's driver, cleared on tearDown
+    private static final ThreadLocal<Map<Class<?>, Object>> PAGES = ThreadLocal.withInitial(HashMap::new);
+    // Command recorder of the current thread's test, null with -Dcommand.metrics=false
+    private static final ThreadLocal<CommandMetrics> METRICS = new ThreadLocal<>();
+    // HAR recorder of the current thread's test, only with -Dhar=true
+    private static final ThreadLocal<NetworkRecorder> NETWORK = new ThreadLocal<>();
+    // Network profile applied to the current thread's session, null for none
+    private static final ThreadLocal<NetworkProfile> PROFILE = new ThreadLocal<>();
+    // Span covering setup, test and tearDown; page-object spans nest inside it
+    private static final ThreadLocal<Tracer.Span> TEST_SPAN = new ThreadLocal<>();
+    // API client for test preconditions, logged in on first use
+    private static volatile UserApiClient userApi;
 
     @BeforeMethod
     @Parameters({"browser"})
-    public void setup(@Optional("chrome") String browser) {
+    public void setup(@Optional("chrome") String browser, Method testMethod) {
         System.out.println("========================================");
         System.out.println("Setting up test with browser: " + browser);
         System.out.println("========================================");
+        // Resolve the network profile first, so an unknown name fails before a browser starts
+        NetworkProfile profile = NetworkProfile.forTest(testMethod);
+        TEST_SPAN.set(Tracer.span(testMethod.getDeclaringClass().getSimpleName() + "." + testMethod.getName())
+                .arg("browser", browser));
+        // Drop transitions left over from an earlier test on this thread
+        PageTimings.drain();
 
-        // Initialize driver based on browser parameter
-        driver = initializeDriver(browser);
+        WebDriver session = null;
+        try {
+            // Lease a pooled session or launch a fresh browser
+            session = SessionPool.isEnabled()
+                    ? SessionPool.getInstance().lease(browser)
+                    : DriverFactory.createDriver(browser);
+            WebDriver driver = session;
+
+            // Record this test's network traffic as HAR (see NetworkRecorder)
+            if (NetworkRecorder.isEnabled()) {
+                NETWORK.set(NetworkRecorder.start(driver,
+                        testMethod.getDeclaringClass().getSimpleName() + "." + testMethod.getName()));
+            }
 
-        // Maximize the browser window to ensure visibility
-        driver.manage().window().maximize();
+            // Block or throttle network traffic for this test (see NetworkProfile)
+            if (profile.isActive() && profile.apply(driver)) {
+                PROFILE.set(profile);
+            }
 
-        // Bring the browser window to the foreground
-        driver.switchTo().window(driver.getWindowHandle());
+            // Record every command this test issues (see CommandMetrics)
+            if (CommandMetrics.isEnabled()) {
+                CommandMetrics metrics = new CommandMetrics(
+                        testMethod.getDeclaringClass().getSimpleName() + "." + testMethod.getName(), driver);
+                METRICS.set(metrics);
+                driver = metrics.decorate();
+            }
 
-        // Configure timeouts
-        // Reduce implicit wait to keep tests responsive
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(2));
-        driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(30));
-        // Use a pragmatic explicit wait default
-        wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+            // Use a pragmatic explicit wait default
+            DriverManager.setDriver(driver, Duration.ofSeconds(10));
 
-        // Navigate to login page
-        driver.get(LoginTestData.LOGIN_PAGE_URL);
+            // Navigate to login page (pooled sessions are already there after reset)
+            if (!driver.getCurrentUrl().startsWith(LoginTestData.LOGIN_PAGE_URL)) {
+                driver.get(LoginTestData.LOGIN_PAGE_URL);
+            }
+        } catch (RuntimeException e) {
+            abortSetup(session);
+            throw e;
+        }
         System.out.println("✓ Navigated to: " + LoginTestData.LOGIN_PAGE_URL);
     }
 
     /**
-     * Initialize WebDriver based on browser type
-     * @param browser Browser name (chrome, firefox, edge)
-     * @return Configured WebDriver instance
+     * Release everything a failed setup acquired; TestNG skips tearDown after a failed @BeforeMethod
+     * @param session Undecorated driver, or null if none was started
+     */
+    private void abortSetup(WebDriver session) {
+        NetworkRecorder network = NETWORK.get();
+        NETWORK.remove();
+        if (network != null) {
+            try {
+                network.stop(Collections.emptyList());
+            } catch (Exception e) {
+                System.out.println("⚠ Could not stop HAR recording: " + e.getMessage());
+            }
+        }
+        METRICS.remove();
+        PROFILE.remove();
+        PAGES.remove();
+        PageTimings.drain();
+        DriverManager.unregister();
+        if (session != null) {
+            try {
+                // The session's state is unknown, so a pooled one is not reused
+                if (SessionPool.isEnabled()) {
+                    SessionPool.getInstance().invalidate(session);
+                } else {
+                    session.quit();
+                }
+            } catch (Exception e) {
+                System.out.println("⚠ Could not close browser after failed setup: " + e.getMessage());
+            }
+        }
+        Tracer.Span testSpan = TEST_SPAN.get();
+        TEST_SPAN.remove();
+        if (testSpan != null) {
+            testSpan.close();
+        }
+    }
+
+    /**
+     * Get the WebDriver owned by the current test thread
+     * @return WebDriver instance
+     */
+    protected WebDriver getDriver() {
+        return DriverManager.getDriver();
+    }
+
+    /**
+     * Get the default explicit wait of the current test thread
+     * @return WebDriverWait instance
+     */
+    protected WebDriverWait getWait() {
+        return DriverManager.getWait();
+    }
+
+    /**
+     * Get a page object bound to the current thread's driver
+     * The instance is created on first use and reused until the test finishes
+     * @param pageClass Page object class with a (WebDriver) constructor
+     * @return Page object for this thread
+     */
+    protected <T> T page(Class<T> pageClass) {
+        Map<Class<?>, Object> pages = PAGES.get();
+        Object page = pages.get(pageClass);
+        if (page == null) {
+            try {
+                Constructor<T> constructor = pageClass.getConstructor(WebDriver.class);
+                page = constructor.newInstance(getDriver());
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalArgumentException("Cannot create page object " + pageClass.getSimpleName(), e);
+            }
+            pages.put(pageClass, page);
+        }
+        return pageClass.cast(page);
+    }
+
+    /**
+     * Get the user-management API client for seeding and cleaning up test data
+     * Much faster than the Add User form; shared by all threads
+     * @return Client for the configured server and test account
+     * @throws SkipException unless the stand-in server runs or -Dapi.base.url is set
      */
-    private WebDriver initializeDriver(String browser) {
-        WebDriver driver;
-
-        switch (browser.toLowerCase()) {
-            case "chrome":
-                WebDriverManager.chromedriver().setup();
-                ChromeOptions chromeOptions = new ChromeOptions();
-                chromeOptions.addArguments("--remote-allow-origins=*");
-                chromeOptions.addArguments("--disable-dev-shm-usage");
-                chromeOptions.addArguments("--no-sandbox");
-                chromeOptions.addArguments("--disable-gpu");
-                chromeOptions.addArguments("--start-maximized");
-                // Uncomment for headless mode
-                // chromeOptions.addArguments("--headless");
-                driver = new ChromeDriver(chromeOptions);
-                break;
-
-            case "firefox":
-                WebDriverManager.firefoxdriver().setup();
-                FirefoxOptions firefoxOptions = new FirefoxOptions();
-                firefoxOptions.addArguments("--start-maximized");
-                // Uncomment for headless mode
-                // firefoxOptions.addArguments("--headless");
-                driver = new FirefoxDriver(firefoxOptions);
-                break;
-
-            case "edge":
-                WebDriverManager.edgedriver().setup();
-                EdgeOptions edgeOptions = new EdgeOptions();
-                edgeOptions.addArguments("--remote-allow-origins=*");
-                edgeOptions.addArguments("--start-maximized");
-                driver = new EdgeDriver(edgeOptions);
-                break;
-
-            default:
-                System.out.println("⚠ Unknown browser: " + browser + ", defaulting to Chrome");
-                WebDriverManager.chromedriver().setup();
-                ChromeOptions defaultOptions = new ChromeOptions();
-                defaultOptions.addArguments("--remote-allow-origins=*");
-                defaultOptions.addArguments("--start-maximized");
-                driver = new ChromeDriver(defaultOptions);
-                break;
-        }
-
-        return driver;
+    protected UserApiClient userApi() {
+        if (StandInSuiteListener.getServer() == null && System.getProperty(UserApiClient.BASE_URL_PROPERTY) == null) {
+            throw new SkipException("User API needs the stand-in server (-Dstandin=true) or -D"
+                    + UserApiClient.BASE_URL_PROPERTY);
+        }
+        if (userApi == null) {
+            synchronized (BaseTest.class) {
+                if (userApi == null) {
+                    userApi = UserApiClient.forTestAccount();
+                }
+            }
+        }
+        return userApi;
     }
 
     @AfterMethod
@@ -123,7 +213,9 @@ public class BaseTest {
             String testName = result.getName();
             System.out.println("✗ Test FAILED: " + testName);
             System.out.println("Error: " + result.getThrowable().getMessage());
-            ScreenshotUtil.captureScreenshot(driver, testName + "_FAILED", "FailedTests");
+            if (DriverManager.hasDriver()) {
+                ScreenshotUtil.captureScreenshot(getDriver(), testName + "_FAILED", "FailedTests");
+            }
         } else if (result.getStatus() == ITestResult.SUCCESS) {
             System.out.println("✓ Test PASSED: " + result.getName());
         } else if (result.getStatus() == ITestResult.SKIP) {
@@ -132,9 +224,148 @@ public class BaseTest {
 
         System.out.println("========================================\n");
 
-        // Close browser
-        if (driver != null) {
-            driver.quit();
+        NetworkRecorder network = NETWORK.get();
+        NETWORK.remove();
+        CommandMetrics metrics = METRICS.get();
+        METRICS.remove();
+        NetworkProfile profile = PROFILE.get();
+        PROFILE.remove();
+        try {
+            if (network != null) {
+                // Before the page timings are drained: API calls are matched to them
+                try {
+                    List<String> slowApiCalls = network.stop(PageTimings.getTransitions());
+                    slowApiCalls.forEach(Reporter::log);
+                    result.setAttribute("apiCalls", slowApiCalls);
+                } catch (Exception e) {
+                    System.out.println("⚠ Could not finish HAR recording: " + e.getMessage());
+                }
+            }
+            attachPageTimings(result);
+            if (DriverManager.hasDriver() && WebVitals.isEnabled()) {
+                // Sample the screen the test ended on, after its interactions
+                try {
+                    WebVitals.record(getDriver(), WebVitals.screenOf(getDriver().getCurrentUrl()));
+                } catch (Exception e) {
+                    System.out.println("⚠ Could not sample Web Vitals: " + e.getMessage());
+                }
+            }
+            if (metrics != null) {
+                metrics.report();
+            }
+        } finally {
+            // Reporting must never keep a browser or a pool slot: release it whatever happened above
+            try {
+                releaseDriver(metrics, profile);
+            } finally {
+                Tracer.Span testSpan = TEST_SPAN.get();
+                TEST_SPAN.remove();
+                if (testSpan != null) {
+                    testSpan.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Drop this thread's page objects and close its browser or return it to the pool
+     * @param metrics Command metrics of the test, or null
+     * @param profile Network profile applied to the session, or null
+     */
+    private void releaseDriver(CommandMetrics metrics, NetworkProfile profile) {
+        PageTimings.drain();
+        PAGES.remove();
+        WebDriver driver = DriverManager.unregister();
+        if (metrics != null && driver != null) {
+            // The pool tracks the undecorated session
+            driver = metrics.getDriver();
+        }
+        if (driver == null) {
+            return;
+        }
+        try {
+            if (profile != null && SessionPool.isEnabled()) {
+                // The next test on this pooled session starts unthrottled
+                NetworkProfile.named(NetworkProfile.DEFAULT).apply(driver);
+            }
+        } finally {
+            if (SessionPool.isEnabled()) {
+                SessionPool.getInstance().release(driver);
+            } else {
+                driver.quit();
+            }
+        }
+    }
+
+    /**
+     * Attach the page transitions of this test to its result and write them to target/page-timings
+     * Available to listeners and reporters as the "pageTimings" result attribute
+     */
+    private void attachPageTimings(ITestResult result) {
+        List<PageTimings.Transition> transitions = PageTimings.drain();
+        if (transitions.isEmpty()) {
+            return;
+        }
+        List<Object> json = new ArrayList<>();
+        for (PageTimings.Transition transition : transitions) {
+            json.add(transition.toJson());
+            Reporter.log(transition.toString());
+        }
+        result.setAttribute("pageTimings", json);
+        PageTimings.write(result.getTestClass().getRealClass().getSimpleName() + "." + result.getName(), transitions);
+    }
+
+    /**
+     * Assert that the last transition with this name finished within a time budget
+     * Transitions are recorded by the page objects: login, userManagement, searchUser, saveUser
+     * @param name Transition name
+     * @param maxMillis Budget in milliseconds
+     */
+    protected void assertTransitionWithin(String name, long maxMillis) {
+        PageTimings.Transition transition = PageTimings.getTransition(name);
+        Assert.assertNotNull(transition, "No '" + name + "' transition was recorded");
+        Assert.assertTrue(transition.getDurationMillis() <= maxMillis,
+                name + " took " + transition.getDurationMillis() + " ms, allowed " + maxMillis + " ms");
+    }
+
+    @AfterSuite(alwaysRun = true)
+    public void drainScreenshots() {
+        // Make sure screenshots queued in async mode reach the disk
+        ScreenshotUtil.drain(30_000);
+    }
+
+    @AfterSuite(alwaysRun = true)
+    public void saveLocatorCache() {
+        // Persist which fallback locators matched and report the drifting ones
+        LocatorCache.getInstance().save();
+        LocatorCache.getInstance().writeDriftReport();
+    }
+
+    @AfterSuite(alwaysRun = true)
+    public void closeSessionPool() {
+        if (SessionPool.isEnabled()) {
+            SessionPool.getInstance().shutdown();
+        }
+    }
+
+    @AfterSuite(alwaysRun = true)
+    public void writeTrace() {
+        // One trace-event file per run, see Tracer
+        Tracer.write();
+    }
+
+    @AfterSuite(alwaysRun = true)
+    public void writeWebVitals() {
+        // LCP, CLS and INP samples of the run with p75 per screen, see WebVitals
+        WebVitals.write();
+    }
+
+    @AfterSuite(alwaysRun = true)
+    public void reportDriverStartup() {
+        // Cold includes resolving the driver binary, warm reuses the resolved path
+        String statistics = DriverFactory.getStartupStatistics();
+        if (!statistics.isEmpty()) {
+            System.out.println("✓ Driver startup times\n" + statistics);
         }
     }
 
@@ -143,19 +374,23 @@ public class BaseTest {
      * @param screenshotName Name for the screenshot
      */
     protected void takeScreenshot(String screenshotName) {
-        ScreenshotUtil.captureScreenshot(driver, screenshotName, "TestProgress");
+        ScreenshotUtil.captureScreenshot(getDriver(), screenshotName, "TestProgress");
     }
 
     /**
-     * Helper method to wait for a specified duration
-     * @param milliseconds Time to wait in milliseconds
+     * Helper method to record the current DOM for the locator benchmarks
+     * Does nothing unless -Ddom.snapshots=true
+     * @param snapshotName Snapshot name (signin, dashboard, user-list, add-user)
      */
-    protected void waitFor(long milliseconds) {
-        try {
-            Thread.sleep(milliseconds);
-        } catch (InterruptedException e) {
-            // Log using java.util.logging
-            logger.log(Level.SEVERE, "Thread interrupted during wait: ", e);
-        }
+    protected void captureDomSnapshot(String snapshotName) {
+        DomSnapshotUtil.capture(getDriver(), snapshotName);
+    }
+
+    /**
+     * Helper method to wait until the UI has settled (no spinner, no animation, DOM quiet)
+     * Use this instead of fixed sleeps: it returns as soon as the page is ready
+     */
+    protected void waitForUi() {
+        new UiWait(getDriver()).forQuiet();
     }
 }
\ No newline at end of file
@@ -0,0 +1,192 @@
+package org.example.base;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counts and times the WebDriver commands issued by one test
+ * BaseTest wraps each test's driver with a Selenium EventFiringDecorator using
+ * this listener, so every call on the driver and on elements it returned is
+ * recorded per command (findElement, click, sendKeys, executeScript,
+ * getScreenshotAs, ...) with count, total, max and a latency histogram.
+ * Recording is a nanoTime pair and a map update per call.
+ *
+ * Summaries are printed at tearDown and written to target/command-metrics/<test>.txt
+ *   -Dcommand.metrics=false   do not wrap the driver
+ */
+public class CommandMetrics implements WebDriverListener {
+
+    private static final Path OUTPUT_DIR = Paths.get("target", "command-metrics");
+
+    // Upper bounds (exclusive) of the histogram buckets; the last bucket is open
+    private static final long[] BUCKET_LIMITS_MS = {1, 2, 5, 10, 25, 50, 100, 250, 500, 1000, 2500};
+
+    private final String testName;
+    private final WebDriver driver;
+    private final Map<String, CommandStats> commands = new ConcurrentHashMap<>();
+    // Start times of calls in progress; a stack in case a call triggers another
+    private final ThreadLocal<Deque<Long>> started = ThreadLocal.withInitial(ArrayDeque::new);
+
+    public CommandMetrics(String testName, WebDriver driver) {
+        this.testName = testName;
+        this.driver = driver;
+    }
+
+    /**
+     * Check if drivers should be wrapped for command recording
+     * @return false if -Dcommand.metrics=false
+     */
+    public static boolean isEnabled() {
+        return !"false".equalsIgnoreCase(System.getProperty("command.metrics"));
+    }
+
+    /**
+     * Wrap the driver so that its commands are recorded by this instance
+     * @return Decorated driver to hand to the test
+     */
+    public WebDriver decorate() {
+        return new EventFiringDecorator<>(this).decorate(driver);
+    }
+
+    /**
+     * Get the undecorated driver, e.g. to return it to the session pool
+     * @return Driver passed to the constructor
+     */
+    public WebDriver getDriver() {
+        return driver;
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        started.get().push(System.nanoTime());
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        finish(method);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        finish(method);
+    }
+
+    private void finish(Method method) {
+        Deque<Long> stack = started.get();
+        if (stack.isEmpty()) {
+            return;
+        }
+        long micros = (System.nanoTime() - stack.pop()) / 1_000;
+        commands.computeIfAbsent(method.getName(), name -> new CommandStats()).add(micros);
+    }
+
+    /**
+     * Total number of recorded commands
+     * @return Count over all command types
+     */
+    public long getCommandCount() {
+        long count = 0;
+        for (CommandStats stats : commands.values()) {
+            count += stats.count;
+        }
+        return count;
+    }
+
+    /**
+     * Per-command table, slowest total first
+     * @return Multi-line summary
+     */
+    public String summary() {
+        List<Map.Entry<String, CommandStats>> entries = new ArrayList<>(commands.entrySet());
+        entries.sort((a, b) -> Long.compare(b.getValue().totalMicros, a.getValue().totalMicros));
+
+        long totalMicros = 0;
+        for (Map.Entry<String, CommandStats> entry : entries) {
+            totalMicros += entry.getValue().totalMicros;
+        }
+
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(Locale.ROOT, "Commands for %s: %d in %d ms%n", testName, getCommandCount(), totalMicros / 1_000));
+        out.append(String.format(Locale.ROOT, "  %-22s %6s %9s %8s %8s  %s%n", "command", "count", "total ms", "avg ms", "max ms", histogramHeader()));
+        for (Map.Entry<String, CommandStats> entry : entries) {
+            CommandStats stats = entry.getValue();
+            synchronized (stats) {
+                out.append(String.format(Locale.ROOT, "  %-22s %6d %9.1f %8.2f %8.1f  %s%n",
+                        entry.getKey(), stats.count, stats.totalMicros / 1000.0,
+                        stats.totalMicros / 1000.0 / stats.count, stats.maxMicros / 1000.0, stats.histogram()));
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * Print the summary and write it to target/command-metrics/<test>.txt
+     */
+    public void report() {
+        if (commands.isEmpty()) {
+            return;
+        }
+        String summary = summary();
+        System.out.print(summary);
+        try {
+            Files.createDirectories(OUTPUT_DIR);
+            String fileName = testName.replaceAll("[^A-Za-z0-9._-]", "_") + ".txt";
+            Files.write(OUTPUT_DIR.resolve(fileName), summary.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            System.out.println("⚠ Could not write command metrics: " + e.getMessage());
+        }
+    }
+
+    private static String histogramHeader() {
+        StringBuilder header = new StringBuilder("histogram ms [");
+        for (long limit : BUCKET_LIMITS_MS) {
+            header.append('<').append(limit).append(' ');
+        }
+        return header.append(">=").append(BUCKET_LIMITS_MS[BUCKET_LIMITS_MS.length - 1]).append(']').toString();
+    }
+
+    /**
+     * Latency statistics of one command type
+     */
+    private static final class CommandStats {
+        private final long[] buckets = new long[BUCKET_LIMITS_MS.length + 1];
+        private long count;
+        private long totalMicros;
+        private long maxMicros;
+
+        synchronized void add(long micros) {
+            count++;
+            totalMicros += micros;
+            maxMicros = Math.max(maxMicros, micros);
+            int bucket = 0;
+            while (bucket < BUCKET_LIMITS_MS.length && micros >= BUCKET_LIMITS_MS[bucket] * 1_000) {
+                bucket++;
+            }
+            buckets[bucket]++;
+        }
+
+        String histogram() {
+            StringBuilder text = new StringBuilder("[");
+            for (int i = 0; i < buckets.length; i++) {
+                text.append(i == 0 ? "" : " ").append(buckets[i]);
+            }
+            return text.append(']').toString();
+        }
+    }
+}
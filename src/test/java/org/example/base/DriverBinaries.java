@@ -0,0 +1,207 @@
+package org.example.base;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Resolves driver binaries (chromedriver, geckodriver, msedgedriver) once per JVM.
+ * WebDriverManager's version detection and lookups run on the first session of
+ * each browser only; later sessions reuse the resolved path. Resolved paths are
+ * also written to a manifest in the driver cache, which offline mode reads.
+ *
+ *   -Ddriver.offline=true        never call WebDriverManager, use the local cache only
+ *   -Dwdm.cachePath=DIR          driver cache (default: ~/.cache/selenium, as WebDriverManager)
+ *   -Dwebdriver.chrome.driver=.. an explicit binary always wins (also gecko / edge)
+ */
+public final class DriverBinaries {
+
+    private static final String MANIFEST = "agrigen-driver-paths.properties";
+
+    // Browser -> resolved binary path, for this JVM
+    private static final Map<String, String> RESOLVED = new ConcurrentHashMap<>();
+    // Browser -> lock, so a download blocks only threads waiting for the same browser
+    private static final Map<String, Object> LOCKS = new ConcurrentHashMap<>();
+
+    private DriverBinaries() {
+    }
+
+    /**
+     * Check if driver binaries may only come from the local cache
+     * @return true if -Ddriver.offline=true
+     */
+    public static boolean isOffline() {
+        return Boolean.getBoolean("driver.offline");
+    }
+
+    /**
+     * Check if the browser's driver was already resolved in this JVM
+     * @param browser Browser name (chrome, firefox, edge)
+     * @return true if resolve() will return immediately
+     */
+    public static boolean isResolved(String browser) {
+        return RESOLVED.containsKey(normalize(browser));
+    }
+
+    /**
+     * Make the driver binary for a browser available to Selenium
+     * The first call per browser resolves it, later calls return the cached path
+     * @param browser Browser name (chrome, firefox, edge; anything else means chrome)
+     * @return Path of the driver binary
+     * @throws IllegalStateException if no binary could be found or downloaded
+     */
+    public static String resolve(String browser) {
+        String key = normalize(browser);
+        String path = RESOLVED.get(key);
+        if (path != null) {
+            return path;
+        }
+        // Not computeIfAbsent: the download must not run inside the map's bin lock
+        synchronized (LOCKS.computeIfAbsent(key, k -> new Object())) {
+            path = RESOLVED.get(key);
+            if (path == null) {
+                path = resolveOnce(key);
+                RESOLVED.put(key, path);
+            }
+            return path;
+        }
+    }
+
+    private static String resolveOnce(String browser) {
+        String property = systemProperty(browser);
+
+        // An explicitly configured binary needs no resolution at all
+        String explicit = System.getProperty(property);
+        if (explicit != null && !explicit.trim().isEmpty()) {
+            return explicit.trim();
+        }
+
+        String path = isOffline() ? resolveOffline(browser) : resolveOnline(browser);
+        System.setProperty(property, path);
+        return path;
+    }
+
+    private static String resolveOnline(String browser) {
+        WebDriverManager manager = manager(browser);
+        manager.setup();
+        String path = manager.getDownloadedDriverPath();
+        if (path == null) {
+            throw new IllegalStateException("WebDriverManager could not provide " + binaryName(browser)
+                    + ". Check the network or proxy, or set -D" + systemProperty(browser));
+        }
+        remember(browser, path);
+        System.out.println("✓ Resolved " + binaryName(browser) + " " + manager.getDownloadedDriverVersion() + ": " + path);
+        return path;
+    }
+
+    private static String resolveOffline(String browser) {
+        // Path recorded by an earlier online run
+        String recorded = readManifest().getProperty(browser);
+        if (recorded != null && Files.isExecutable(Paths.get(recorded))) {
+            System.out.println("✓ Using cached " + binaryName(browser) + " (offline): " + recorded);
+            return recorded;
+        }
+
+        // Otherwise the newest matching binary anywhere in the cache
+        Optional<Path> found = Optional.empty();
+        if (Files.isDirectory(cacheDir())) {
+            String name = binaryName(browser);
+            try (Stream<Path> files = Files.walk(cacheDir())) {
+                found = files.filter(p -> p.getFileName().toString().equals(name) && Files.isExecutable(p))
+                        .max(Comparator.comparingLong(p -> p.toFile().lastModified()));
+            } catch (IOException e) {
+                System.out.println("⚠ Could not scan driver cache: " + e.getMessage());
+            }
+        }
+        if (!found.isPresent()) {
+            throw new IllegalStateException("Offline mode: no " + binaryName(browser) + " in " + cacheDir()
+                    + ". Run once without -Ddriver.offline=true to populate the cache, or set -D" + systemProperty(browser));
+        }
+        System.out.println("✓ Using cached " + binaryName(browser) + " (offline): " + found.get());
+        return found.get().toString();
+    }
+
+    private static WebDriverManager manager(String browser) {
+        switch (browser) {
+            case "firefox":
+                return WebDriverManager.firefoxdriver();
+            case "edge":
+                return WebDriverManager.edgedriver();
+            default:
+                return WebDriverManager.chromedriver();
+        }
+    }
+
+    private static String normalize(String browser) {
+        String name = browser == null ? "" : browser.trim().toLowerCase();
+        return "firefox".equals(name) || "edge".equals(name) ? name : "chrome";
+    }
+
+    private static String systemProperty(String browser) {
+        switch (browser) {
+            case "firefox":
+                return "webdriver.gecko.driver";
+            case "edge":
+                return "webdriver.edge.driver";
+            default:
+                return "webdriver.chrome.driver";
+        }
+    }
+
+    private static String binaryName(String browser) {
+        String suffix = System.getProperty("os.name", "").toLowerCase().contains("win") ? ".exe" : "";
+        switch (browser) {
+            case "firefox":
+                return "geckodriver" + suffix;
+            case "edge":
+                return "msedgedriver" + suffix;
+            default:
+                return "chromedriver" + suffix;
+        }
+    }
+
+    private static Path cacheDir() {
+        String configured = System.getProperty("wdm.cachePath");
+        if (configured != null && !configured.trim().isEmpty()) {
+            return Paths.get(configured.trim());
+        }
+        return Paths.get(System.getProperty("user.home"), ".cache", "selenium");
+    }
+
+    private static synchronized Properties readManifest() {
+        Properties manifest = new Properties();
+        Path file = cacheDir().resolve(MANIFEST);
+        if (Files.exists(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                manifest.load(in);
+            } catch (IOException e) {
+                System.out.println("⚠ Ignoring unreadable driver manifest: " + e.getMessage());
+            }
+        }
+        return manifest;
+    }
+
+    private static synchronized void remember(String browser, String path) {
+        Properties manifest = readManifest();
+        manifest.setProperty(browser, path);
+        try {
+            Files.createDirectories(cacheDir());
+            try (OutputStream out = Files.newOutputStream(cacheDir().resolve(MANIFEST))) {
+                manifest.store(out, "Driver binaries resolved by WebDriverManager, read with -Ddriver.offline=true");
+            }
+        } catch (IOException e) {
+            System.out.println("⚠ Could not write driver manifest: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package org.example.base;
+
+import org.example.utils.WebVitals;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.FirefoxOptions;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Creates and configures browser sessions
+ * Used directly by BaseTest and by SessionPool when pooling is enabled
+ * Driver binaries are resolved once per JVM by DriverBinaries; startup times are
+ * recorded per browser, split into the cold first session and warm later ones.
+ *   -Dheadless=true    launch browsers without a window
+ */
+public final class DriverFactory {
+
+    // Browser -> startup timings, guarded by itself
+    private static final Map<String, StartupTimes> STARTUP_TIMES = new TreeMap<>();
+
+    private DriverFactory() {
+    }
+
+    /**
+     * Create a new, fully configured WebDriver
+     * @param browser Browser name (chrome, firefox, edge)
+     * @return Configured WebDriver instance
+     */
+    public static WebDriver createDriver(String browser) {
+        return createDriver(browser, Boolean.getBoolean("headless"));
+    }
+
+    /**
+     * Create a new, fully configured WebDriver
+     * @param browser Browser name (chrome, firefox, edge)
+     * @param headless true to launch without a window
+     * @return Configured WebDriver instance
+     */
+    public static WebDriver createDriver(String browser, boolean headless) {
+        boolean cold = !DriverBinaries.isResolved(browser);
+        long start = System.nanoTime();
+        DriverBinaries.resolve(browser);
+        long resolved = System.nanoTime();
+
+        // Initialize driver based on browser parameter
+        WebDriver driver = initializeDriver(browser, headless);
+        recordStartup(browser, cold, resolved - start, System.nanoTime() - resolved);
+
+        // Core Web Vitals observers from the first paint on (Chrome and Edge, see WebVitals)
+        WebVitals.install(driver);
+
+        // Maximize the browser window to ensure visibility
+        driver.manage().window().maximize();
+
+        // Bring the browser window to the foreground
+        driver.switchTo().window(driver.getWindowHandle());
+
+        // Configure timeouts
+        // Reduce implicit wait to keep tests responsive
+        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(2));
+        driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(30));
+        return driver;
+    }
+
+    /**
+     * Initialize WebDriver based on browser type
+     * @param browser Browser name (chrome, firefox, edge)
+     * @param headless true to launch without a window
+     * @return Configured WebDriver instance
+     */
+    private static WebDriver initializeDriver(String browser, boolean headless) {
+        WebDriver driver;
+
+        switch (browser.toLowerCase()) {
+            case "chrome":
+                ChromeOptions chromeOptions = new ChromeOptions();
+                chromeOptions.addArguments("--remote-allow-origins=*");
+                chromeOptions.addArguments("--disable-dev-shm-usage");
+                chromeOptions.addArguments("--no-sandbox");
+                chromeOptions.addArguments("--disable-gpu");
+                chromeOptions.addArguments("--start-maximized");
+                if (headless) {
+                    chromeOptions.addArguments("--headless=new", "--window-size=1920,1080");
+                }
+                driver = new ChromeDriver(chromeOptions);
+                break;
+
+            case "firefox":
+                FirefoxOptions firefoxOptions = new FirefoxOptions();
+                firefoxOptions.addArguments("--start-maximized");
+                if (headless) {
+                    firefoxOptions.addArguments("-headless", "--width=1920", "--height=1080");
+                }
+                driver = new FirefoxDriver(firefoxOptions);
+                break;
+
+            case "edge":
+                EdgeOptions edgeOptions = new EdgeOptions();
+                edgeOptions.addArguments("--remote-allow-origins=*");
+                edgeOptions.addArguments("--start-maximized");
+                if (headless) {
+                    edgeOptions.addArguments("--headless=new", "--window-size=1920,1080");
+                }
+                driver = new EdgeDriver(edgeOptions);
+                break;
+
+            default:
+                System.out.println("⚠ Unknown browser: " + browser + ", defaulting to Chrome");
+                ChromeOptions defaultOptions = new ChromeOptions();
+                defaultOptions.addArguments("--remote-allow-origins=*");
+                defaultOptions.addArguments("--start-maximized");
+                if (headless) {
+                    defaultOptions.addArguments("--headless=new", "--window-size=1920,1080");
+                }
+                driver = new ChromeDriver(defaultOptions);
+                break;
+        }
+
+        return driver;
+    }
+
+    /**
+     * Summary of driver startup times, cold (first session per browser) versus warm
+     * @return One line per browser, empty if no driver was created
+     */
+    public static String getStartupStatistics() {
+        StringBuilder summary = new StringBuilder();
+        synchronized (STARTUP_TIMES) {
+            STARTUP_TIMES.forEach((browser, times) -> summary.append(browser).append(": ").append(times).append('\n'));
+        }
+        return summary.toString().trim();
+    }
+
+    private static void recordStartup(String browser, boolean cold, long resolveNanos, long launchNanos) {
+        synchronized (STARTUP_TIMES) {
+            STARTUP_TIMES.computeIfAbsent(browser.toLowerCase(), b -> new StartupTimes())
+                    .add(cold, resolveNanos / 1_000_000, launchNanos / 1_000_000);
+        }
+    }
+
+    /**
+     * Startup timings of one browser
+     */
+    private static final class StartupTimes {
+        private int coldCount;
+        private long coldResolveMs;
+        private long coldLaunchMs;
+        private int warmCount;
+        private long warmResolveMs;
+        private long warmLaunchMs;
+
+        void add(boolean cold, long resolveMs, long launchMs) {
+            if (cold) {
+                coldCount++;
+                coldResolveMs += resolveMs;
+                coldLaunchMs += launchMs;
+            } else {
+                warmCount++;
+                warmResolveMs += resolveMs;
+                warmLaunchMs += launchMs;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "cold " + describe(coldCount, coldResolveMs, coldLaunchMs)
+                    + ", warm " + describe(warmCount, warmResolveMs, warmLaunchMs);
+        }
+
+        private static String describe(int count, long resolveMs, long launchMs) {
+            if (count == 0) {
+                return "-";
+            }
+            return count + "x avg " + (resolveMs + launchMs) / count + " ms (resolve " + resolveMs / count
+                    + " ms, launch " + launchMs / count + " ms)";
+        }
+    }
+}
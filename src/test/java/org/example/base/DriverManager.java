@@ -0,0 +1,114 @@
+package org.example.base;
+
+import org.example.utils.SessionIds;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-thread WebDriver registry
+ * Each TestNG worker thread owns exactly one driver, so tests can run with
+ * parallel="methods" or parallel="classes" without sharing a browser session
+ */
+public final class DriverManager {
+
+    private static final ThreadLocal<WebDriver> DRIVER = new ThreadLocal<>();
+    private static final ThreadLocal<WebDriverWait> WAIT = new ThreadLocal<>();
+
+    // Thread name -> driver, kept so isolation can be verified across threads
+    private static final Map<String, WebDriver> ACTIVE = new ConcurrentHashMap<>();
+
+    private DriverManager() {
+    }
+
+    /**
+     * Register the driver for the current thread
+     * @param driver WebDriver owned by the calling thread
+     * @param waitTimeout Default explicit wait for this driver
+     */
+    public static void setDriver(WebDriver driver, Duration waitTimeout) {
+        for (Map.Entry<String, WebDriver> entry : ACTIVE.entrySet()) {
+            if (entry.getValue() == driver && !entry.getKey().equals(threadKey())) {
+                throw new IllegalStateException("Driver is already owned by thread " + entry.getKey());
+            }
+        }
+        DRIVER.set(driver);
+        WAIT.set(new WebDriverWait(driver, waitTimeout));
+        ACTIVE.put(threadKey(), driver);
+    }
+
+    /**
+     * Get the driver owned by the current thread
+     * @return WebDriver instance
+     */
+    public static WebDriver getDriver() {
+        WebDriver driver = DRIVER.get();
+        if (driver == null) {
+            throw new IllegalStateException("No WebDriver registered for thread " + threadKey());
+        }
+        return driver;
+    }
+
+    /**
+     * Get the default explicit wait of the current thread
+     * @return WebDriverWait bound to this thread's driver
+     */
+    public static WebDriverWait getWait() {
+        return WAIT.get();
+    }
+
+    /**
+     * Check if the current thread has a driver
+     * @return true if a driver is registered
+     */
+    public static boolean hasDriver() {
+        return DRIVER.get() != null;
+    }
+
+    /**
+     * Remove the current thread's driver from the registry without quitting it
+     * @return The removed driver, or null if none was registered
+     */
+    public static WebDriver unregister() {
+        WebDriver driver = DRIVER.get();
+        DRIVER.remove();
+        WAIT.remove();
+        ACTIVE.remove(threadKey());
+        return driver;
+    }
+
+    /**
+     * Quit and remove the current thread's driver
+     */
+    public static void quitDriver() {
+        WebDriver driver = unregister();
+        if (driver != null) {
+            driver.quit();
+        }
+    }
+
+    /**
+     * Get the browser session id of a driver, unwrapping decorated drivers
+     * @param driver Plain or decorated driver
+     * @return Session id, or an identity hash for drivers without one
+     */
+    public static String getSessionId(WebDriver driver) {
+        return SessionIds.of(driver);
+    }
+
+    /**
+     * Number of threads currently holding a driver
+     * @return Active driver count
+     */
+    public static int activeCount() {
+        return ACTIVE.size();
+    }
+
+    private static String threadKey() {
+        Thread current = Thread.currentThread();
+        return current.getName() + "#" + current.getId();
+    }
+}
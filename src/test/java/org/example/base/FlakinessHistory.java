@@ -0,0 +1,187 @@
+package org.example.base;
+
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Outcome history per test, persisted across runs
+ * Every attempt is recorded as P (passed) or F (failed); the last WINDOW
+ * outcomes are kept. A test has a flaky profile when that window holds both
+ * passes and failures, or when it has passed on a retry before. A test that
+ * only ever fails is broken rather than flaky, and is not retried.
+ *
+ * Stored in .test-history/flakiness-history.json, outside target/ so that
+ * mvn clean keeps it; on CI, cache that directory between builds (or point
+ * -Dretry.history=FILE at a persistent location), otherwise no test ever
+ * builds up a flaky profile and nothing is retried.
+ */
+public final class FlakinessHistory {
+
+    private static final int WINDOW = 20;
+    private static final Json JSON = new Json();
+
+    private static final FlakinessHistory INSTANCE = new FlakinessHistory(
+            Paths.get(System.getProperty("retry.history",
+                    Paths.get(System.getProperty("user.dir"), ".test-history", "flakiness-history.json").toString())));
+
+    private final Path file;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    private FlakinessHistory(Path file) {
+        this.file = file;
+    }
+
+    public static FlakinessHistory getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Record the outcome of one attempt
+     * @param key Test key, e.g. "LoginPageTest.testEmptyUsername"
+     * @param passed true if the attempt passed
+     */
+    public void record(String key, boolean passed) {
+        Entry entry = entry(key);
+        synchronized (entry) {
+            entry.outcomes = entry.outcomes + (passed ? "P" : "F");
+            if (entry.outcomes.length() > WINDOW) {
+                entry.outcomes = entry.outcomes.substring(entry.outcomes.length() - WINDOW);
+            }
+            entry.runs++;
+            if (!passed) {
+                entry.failures++;
+            }
+        }
+    }
+
+    /**
+     * Record that a test passed after being retried
+     * @param key Test key
+     */
+    public void recordPassedOnRetry(String key) {
+        Entry entry = entry(key);
+        synchronized (entry) {
+            entry.passedOnRetry++;
+        }
+    }
+
+    /**
+     * Check if a test has a known flaky profile
+     * @param key Test key
+     * @return true if recent outcomes are mixed or it passed on a retry before
+     */
+    public boolean isFlaky(String key) {
+        load();
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return false;
+        }
+        synchronized (entry) {
+            return entry.passedOnRetry > 0
+                    || (entry.outcomes.contains("P") && entry.outcomes.contains("F"));
+        }
+    }
+
+    /**
+     * Recent outcomes of a test, oldest first
+     * @param key Test key
+     * @return e.g. "PPFPP", empty if unknown
+     */
+    public String getOutcomes(String key) {
+        load();
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return "";
+        }
+        synchronized (entry) {
+            return entry.outcomes;
+        }
+    }
+
+    /**
+     * Persist the history
+     */
+    public void save() {
+        if (entries.isEmpty()) {
+            return;
+        }
+        Map<String, Object> json = new TreeMap<>();
+        for (Map.Entry<String, Entry> e : entries.entrySet()) {
+            Entry entry = e.getValue();
+            synchronized (entry) {
+                Map<String, Object> value = new LinkedHashMap<>();
+                value.put("outcomes", entry.outcomes);
+                value.put("runs", entry.runs);
+                value.put("failures", entry.failures);
+                value.put("passedOnRetry", entry.passedOnRetry);
+                json.put(e.getKey(), value);
+            }
+        }
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Files.write(file, JSON.toJson(json).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            System.out.println("✗ Failed to save flakiness history: " + e.getMessage());
+        }
+    }
+
+    private Entry entry(String key) {
+        load();
+        return entries.computeIfAbsent(key, k -> new Entry());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void load() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+            loaded = true;
+            if (!Files.exists(file)) {
+                return;
+            }
+            try {
+                String content = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+                Map<String, Object> json = JSON.toType(content, Json.MAP_TYPE);
+                for (Map.Entry<String, Object> e : json.entrySet()) {
+                    Map<String, Object> value = (Map<String, Object>) e.getValue();
+                    Entry entry = new Entry();
+                    entry.outcomes = value.get("outcomes") == null ? "" : value.get("outcomes").toString();
+                    entry.runs = number(value.get("runs"));
+                    entry.failures = number(value.get("failures"));
+                    entry.passedOnRetry = number(value.get("passedOnRetry"));
+                    entries.putIfAbsent(e.getKey(), entry);
+                }
+            } catch (Exception e) {
+                System.out.println("⚠ Ignoring unreadable flakiness history: " + e.getMessage());
+            }
+        }
+    }
+
+    private static int number(Object value) {
+        return value instanceof Number ? ((Number) value).intValue() : 0;
+    }
+
+    /**
+     * History of one test
+     */
+    private static final class Entry {
+        private String outcomes = "";
+        private int runs;
+        private int failures;
+        private int passedOnRetry;
+    }
+}
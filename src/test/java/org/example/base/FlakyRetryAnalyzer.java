@@ -0,0 +1,78 @@
+package org.example.base;
+
+import org.testng.IRetryAnalyzer;
+import org.testng.ITestResult;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Retries a failed test only when FlakinessHistory knows it as flaky
+ * Retries are capped per test and by a budget shared by the whole suite run,
+ * so a broken build cannot double its run time. Attached to every test by
+ * RetryListener.
+ *
+ *   -Dretry=false           never retry
+ *   -Dretry.max=N           retries per test (default: 1)
+ *   -Dretry.budget=N        retries per suite run (default: 3)
+ */
+public class FlakyRetryAnalyzer implements IRetryAnalyzer {
+
+    private static final AtomicInteger BUDGET = new AtomicInteger(Integer.getInteger("retry.budget", 3));
+    private static final AtomicInteger USED = new AtomicInteger();
+
+    private int attempts;
+
+    public static boolean isEnabled() {
+        return !"false".equalsIgnoreCase(System.getProperty("retry"));
+    }
+
+    @Override
+    public boolean retry(ITestResult result) {
+        if (!isEnabled() || attempts >= Integer.getInteger("retry.max", 1)) {
+            return false;
+        }
+        String key = RetryListener.keyOf(result);
+        if (!FlakinessHistory.getInstance().isFlaky(key)) {
+            System.out.println("⊘ Not retrying " + key + ": no flaky history ("
+                    + FlakinessHistory.getInstance().getOutcomes(key) + ")");
+            return false;
+        }
+        if (!takeFromBudget()) {
+            System.out.println("⊘ Not retrying " + key + ": retry budget used up");
+            return false;
+        }
+        attempts++;
+        System.out.println("↻ Retrying flaky test " + key + " (retry " + attempts + ", history "
+                + FlakinessHistory.getInstance().getOutcomes(key) + ", budget left " + BUDGET.get() + ")");
+        return true;
+    }
+
+    /**
+     * Retries granted so far in this run
+     * @return Number of retries
+     */
+    public static int getUsed() {
+        return USED.get();
+    }
+
+    /**
+     * Retries still available in this run
+     * @return Remaining budget
+     */
+    public static int getRemaining() {
+        return BUDGET.get();
+    }
+
+    private static boolean takeFromBudget() {
+        while (true) {
+            int left = BUDGET.get();
+            if (left <= 0) {
+                return false;
+            }
+            if (BUDGET.compareAndSet(left, left - 1)) {
+                USED.incrementAndGet();
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package org.example.base;
+
+import org.example.pages.LoginPage;
+import org.example.testdata.LoginTestData;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrent virtual-user login load
+ * Each virtual user owns one headless browser and loops: clear cookies and
+ * storage, open /signin, LoginPage.loginAndWaitForDashboard. Users start
+ * evenly spread over the ramp-up, then run until the duration (or their
+ * iteration count) is used up. Latency is measured around
+ * loginAndWaitForDashboard, i.e. from typing the credentials until the
+ * dashboard URL is reached; throughput counts successful logins.
+ *
+ *   -Dload.users=N               virtual users (default: 4)
+ *   -Dload.rampUpSeconds=N       time until the last user starts (default: 10)
+ *   -Dload.durationSeconds=N     run time after the first start (default: 60)
+ *   -Dload.iterations=N          stop each user after N logins (default: 0 = duration only)
+ *   -Dload.browser=NAME          browser of the virtual users (default: chrome)
+ *
+ * The report is printed and written to target/load/login-load-<timestamp>.txt
+ */
+public final class LoginLoadRunner {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
+
+    private final int users;
+    private final long rampUpMillis;
+    private final long durationMillis;
+    private final int iterations;
+    private final String browser;
+
+    private final Queue<Long> latencies = new ConcurrentLinkedQueue<>();
+    private final Queue<String> errors = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger failedLogins = new AtomicInteger();
+    private final AtomicInteger startedUsers = new AtomicInteger();
+
+    public LoginLoadRunner(int users, long rampUpMillis, long durationMillis, int iterations, String browser) {
+        this.users = Math.max(1, users);
+        this.rampUpMillis = Math.max(0, rampUpMillis);
+        this.durationMillis = Math.max(1, durationMillis);
+        this.iterations = Math.max(0, iterations);
+        this.browser = browser;
+    }
+
+    /**
+     * Runner configured from the load.* system properties
+     * @return LoginLoadRunner
+     */
+    public static LoginLoadRunner fromSystemProperties() {
+        return new LoginLoadRunner(
+                Integer.getInteger("load.users", 4),
+                Long.getLong("load.rampUpSeconds", 10L) * 1000,
+                Long.getLong("load.durationSeconds", 60L) * 1000,
+                Integer.getInteger("load.iterations", 0),
+                System.getProperty("load.browser", "chrome"));
+    }
+
+    /**
+     * Run the load and wait for all virtual users to finish
+     * @param username Login of every virtual user
+     * @param password Password of every virtual user
+     * @return Result with latency percentiles and throughput
+     */
+    public Result run(String username, String password) {
+        System.out.println(String.format(Locale.ROOT, "▶ Login load: %d users, ramp-up %.1f s, duration %.1f s%s",
+                users, rampUpMillis / 1000.0, durationMillis / 1000.0,
+                iterations > 0 ? ", at most " + iterations + " logins per user" : ""));
+
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(durationMillis);
+        CountDownLatch finished = new CountDownLatch(users);
+        for (int i = 0; i < users; i++) {
+            long startDelay = users == 1 ? 0 : rampUpMillis * i / (users - 1);
+            Thread thread = new Thread(() -> {
+                try {
+                    runUser(startDelay, deadline, username, password);
+                } finally {
+                    finished.countDown();
+                }
+            }, "load-user-" + (i + 1));
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        try {
+            // Generous cap: a login already in flight may outlast the deadline
+            if (!finished.await(durationMillis + rampUpMillis + 120_000, TimeUnit.MILLISECONDS)) {
+                System.out.println("⚠ Some virtual users did not finish in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return new Result(new ArrayList<>(latencies), failedLogins.get(), new ArrayList<>(errors),
+                startedUsers.get(), System.nanoTime() - start);
+    }
+
+    private void runUser(long startDelay, long deadline, String username, String password) {
+        if (!sleep(startDelay) || System.nanoTime() >= deadline) {
+            return;
+        }
+        WebDriver driver;
+        try {
+            driver = DriverFactory.createDriver(browser, true);
+        } catch (Exception e) {
+            errors.add(Thread.currentThread().getName() + ": browser start failed: " + e.getMessage());
+            return;
+        }
+        startedUsers.incrementAndGet();
+        try {
+            LoginPage loginPage = new LoginPage(driver);
+            int done = 0;
+            while (System.nanoTime() < deadline && (iterations == 0 || done < iterations)) {
+                done++;
+                try {
+                    signOut(driver);
+                    long loginStart = System.nanoTime();
+                    boolean onDashboard = loginPage.loginAndWaitForDashboard(username, password);
+                    long elapsed = System.nanoTime() - loginStart;
+                    if (onDashboard) {
+                        latencies.add(elapsed);
+                    } else {
+                        failedLogins.incrementAndGet();
+                        errors.add(Thread.currentThread().getName() + ": not on dashboard, at " + driver.getCurrentUrl());
+                    }
+                } catch (Exception e) {
+                    failedLogins.incrementAndGet();
+                    errors.add(Thread.currentThread().getName() + ": " + e.getMessage());
+                }
+            }
+        } finally {
+            driver.quit();
+        }
+    }
+
+    private static void signOut(WebDriver driver) {
+        try {
+            ((JavascriptExecutor) driver).executeScript(
+                    "try { window.localStorage.clear(); } catch (e) {}" +
+                    "try { window.sessionStorage.clear(); } catch (e) {}");
+        } catch (Exception ignored) {
+            // Storage is not reachable on about:blank
+        }
+        driver.manage().deleteAllCookies();
+        driver.get(LoginTestData.LOGIN_PAGE_URL);
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Outcome of one load run
+     */
+    public static final class Result {
+        private final List<Long> latencies;
+        private final int failures;
+        private final List<String> errors;
+        private final int users;
+        private final long elapsedNanos;
+
+        Result(List<Long> latencies, int failures, List<String> errors, int users, long elapsedNanos) {
+            Collections.sort(latencies);
+            this.latencies = latencies;
+            this.failures = failures;
+            this.errors = errors;
+            this.users = users;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public int getSuccessfulLogins() {
+            return latencies.size();
+        }
+
+        public int getFailedLogins() {
+            return failures;
+        }
+
+        /**
+         * Successful logins per second over the whole run, ramp-up included
+         * @return Logins per second
+         */
+        public double getThroughput() {
+            return elapsedNanos == 0 ? 0 : latencies.size() / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        /**
+         * Login-to-dashboard latency percentile (nearest rank)
+         * @param percentile 0-100, e.g. 95
+         * @return Latency in milliseconds, 0 without successful logins
+         */
+        public long getPercentileMillis(double percentile) {
+            if (latencies.isEmpty()) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile / 100.0 * latencies.size());
+            return latencies.get(Math.max(0, Math.min(latencies.size() - 1, rank - 1))) / 1_000_000;
+        }
+
+        /**
+         * Human-readable report
+         * @return Multi-line summary
+         */
+        public String describe() {
+            StringBuilder report = new StringBuilder();
+            report.append(String.format(Locale.ROOT,
+                    "Login load: %d users, %d logins ok, %d failed in %.1f s%n",
+                    users, latencies.size(), failures, elapsedNanos / 1_000_000_000.0));
+            report.append(String.format(Locale.ROOT, "Throughput: %.2f logins/s%n", getThroughput()));
+            report.append(String.format(Locale.ROOT, "Login to dashboard: p50 %d ms, p95 %d ms, p99 %d ms, max %d ms",
+                    getPercentileMillis(50), getPercentileMillis(95), getPercentileMillis(99),
+                    latencies.isEmpty() ? 0 : latencies.get(latencies.size() - 1) / 1_000_000));
+            if (!errors.isEmpty()) {
+                report.append(String.format("%n%nErrors (%d):", errors.size()));
+                errors.stream().limit(50).forEach(error -> report.append("\n  ").append(error));
+            }
+            return report.toString();
+        }
+
+        /**
+         * Write the report to target/load/login-load-<timestamp>.txt
+         * @return Written file, or null if it could not be written
+         */
+        public Path write() {
+            Path file = Paths.get(System.getProperty("user.dir"), "target", "load",
+                    "login-load-" + LocalDateTime.now().format(FILE_TIMESTAMP) + ".txt");
+            try {
+                Files.createDirectories(file.getParent());
+                Files.write(file, describe().getBytes(StandardCharsets.UTF_8));
+                return file;
+            } catch (IOException e) {
+                System.out.println("✗ Failed to write load report: " + e.getMessage());
+                return null;
+            }
+        }
+    }
+}
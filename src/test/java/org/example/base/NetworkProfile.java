@@ -0,0 +1,198 @@
+package org.example.base;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Named network conditions for a browser session, applied through CDP
+ *
+ *   default   no blocking, no throttling
+ *   fast      block fonts, images, media and analytics that no assertion needs
+ *   4g        165 ms latency, 9 Mbit/s down, 1.5 Mbit/s up
+ *   3g        563 ms latency, 1.44 Mbit/s down, 675 kbit/s up (DevTools "Fast 3G")
+ *   slow-3g   2 s latency, 400 kbit/s down and up (DevTools "Slow 3G")
+ *   custom    -Dnetwork.latencyMs, -Dnetwork.downloadKbps, -Dnetwork.uploadKbps
+ *
+ * A test opts in with @NetworkProfile.Use("fast") on the method or class;
+ * -Dnetwork.profile=NAME sets it for all other tests. -Dnetwork.block=a,b
+ * adds URL patterns (with * wildcards) to block in every profile.
+ * Chrome and Edge only; other browsers run unchanged.
+ */
+public final class NetworkProfile {
+
+    /**
+     * Network profile of a test method or of all tests in a class
+     */
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ElementType.METHOD, ElementType.TYPE})
+    public @interface Use {
+        String value();
+    }
+
+    public static final String DEFAULT = "default";
+
+    private static final List<String> NON_ESSENTIAL = Arrays.asList(
+            // Fonts
+            "*.woff", "*.woff2", "*.ttf", "*.otf", "*fonts.googleapis.com*", "*fonts.gstatic.com*",
+            // Images (the logo <img> keeps its size, so visibility checks still pass)
+            "*.png", "*.jpg", "*.jpeg", "*.gif", "*.svg", "*.webp", "*.ico",
+            // Media
+            "*.mp4", "*.webm", "*.mp3",
+            // Analytics and tracking
+            "*google-analytics.com*", "*googletagmanager.com*", "*doubleclick.net*",
+            "*hotjar.com*", "*clarity.ms*", "*segment.io*");
+
+    private final String name;
+    private final List<String> blockedUrls;
+    private final double latencyMillis;
+    private final double downloadBytesPerSecond;
+    private final double uploadBytesPerSecond;
+
+    private NetworkProfile(String name, List<String> blockedUrls, double latencyMillis, double downloadKbps, double uploadKbps) {
+        this.name = name;
+        List<String> blocked = new ArrayList<>(blockedUrls);
+        String extra = System.getProperty("network.block", "").trim();
+        if (!extra.isEmpty()) {
+            for (String pattern : extra.split(",")) {
+                if (!pattern.trim().isEmpty()) {
+                    blocked.add(pattern.trim());
+                }
+            }
+        }
+        this.blockedUrls = Collections.unmodifiableList(blocked);
+        this.latencyMillis = latencyMillis;
+        // kbit/s -> bytes/s; -1 means no limit
+        this.downloadBytesPerSecond = downloadKbps < 0 ? -1 : downloadKbps * 1000 / 8;
+        this.uploadBytesPerSecond = uploadKbps < 0 ? -1 : uploadKbps * 1000 / 8;
+    }
+
+    /**
+     * Look up a profile by name
+     * @param name Profile name, case-insensitive
+     * @return NetworkProfile
+     * @throws IllegalArgumentException for an unknown name
+     */
+    public static NetworkProfile named(String name) {
+        String key = name == null || name.trim().isEmpty() ? DEFAULT : name.trim().toLowerCase(Locale.ROOT);
+        switch (key) {
+            case DEFAULT:
+                return new NetworkProfile(key, Collections.emptyList(), 0, -1, -1);
+            case "fast":
+                return new NetworkProfile(key, NON_ESSENTIAL, 0, -1, -1);
+            case "4g":
+                return new NetworkProfile(key, Collections.emptyList(), 165, 9000, 1500);
+            case "3g":
+                return new NetworkProfile(key, Collections.emptyList(), 562.5, 1440, 675);
+            case "slow-3g":
+                return new NetworkProfile(key, Collections.emptyList(), 2000, 400, 400);
+            case "custom":
+                return new NetworkProfile(key, Collections.emptyList(),
+                        Double.parseDouble(System.getProperty("network.latencyMs", "0")),
+                        Double.parseDouble(System.getProperty("network.downloadKbps", "-1")),
+                        Double.parseDouble(System.getProperty("network.uploadKbps", "-1")));
+            default:
+                throw new IllegalArgumentException("Unknown network profile '" + name
+                        + "', expected default, fast, 4g, 3g, slow-3g or custom");
+        }
+    }
+
+    /**
+     * Profile for a test: @Use on the method, then on the class, then -Dnetwork.profile
+     * @param testMethod Test method
+     * @return NetworkProfile
+     */
+    public static NetworkProfile forTest(Method testMethod) {
+        Use use = testMethod.getAnnotation(Use.class);
+        if (use == null) {
+            use = testMethod.getDeclaringClass().getAnnotation(Use.class);
+        }
+        return named(use != null ? use.value() : System.getProperty("network.profile", DEFAULT));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Check if this profile changes anything
+     * @return false for a profile without blocking or throttling
+     */
+    public boolean isActive() {
+        return !blockedUrls.isEmpty() || latencyMillis > 0 || downloadBytesPerSecond >= 0 || uploadBytesPerSecond >= 0;
+    }
+
+    /**
+     * Apply the profile to a session
+     * @param driver Undecorated driver
+     * @return true if applied, false if the browser has no DevTools connection
+     */
+    public boolean apply(WebDriver driver) {
+        try {
+            // Inside the try: opening a DevTools session fails when the browser is gone
+            DevTools devTools = devTools(driver);
+            if (devTools == null) {
+                System.out.println("⚠ Network profile '" + name + "' needs Chrome or Edge, running unchanged");
+                return false;
+            }
+            devTools.send(new Command<>("Network.enable", Collections.emptyMap()));
+            devTools.send(new Command<>("Network.setBlockedURLs", Collections.singletonMap("urls", blockedUrls)));
+
+            Map<String, Object> conditions = new LinkedHashMap<>();
+            conditions.put("offline", false);
+            conditions.put("latency", latencyMillis);
+            conditions.put("downloadThroughput", downloadBytesPerSecond);
+            conditions.put("uploadThroughput", uploadBytesPerSecond);
+            devTools.send(new Command<>("Network.emulateNetworkConditions", conditions));
+
+            if (isActive()) {
+                System.out.println("✓ Network profile: " + this);
+            }
+            return true;
+        } catch (Exception e) {
+            System.out.println("⚠ Could not apply network profile '" + name + "': " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static DevTools devTools(WebDriver driver) {
+        WebDriver target = driver;
+        while (target instanceof WrapsDriver && !(target instanceof HasDevTools)) {
+            target = ((WrapsDriver) target).getWrappedDriver();
+        }
+        if (!(target instanceof HasDevTools)) {
+            return null;
+        }
+        DevTools devTools = ((HasDevTools) target).getDevTools();
+        devTools.createSessionIfThereIsNotOne();
+        return devTools;
+    }
+
+    @Override
+    public String toString() {
+        if (!isActive()) {
+            return name;
+        }
+        return String.format(Locale.ROOT, "%s (%d blocked patterns, latency %.0f ms, down %s, up %s)",
+                name, blockedUrls.size(), latencyMillis, rate(downloadBytesPerSecond), rate(uploadBytesPerSecond));
+    }
+
+    private static String rate(double bytesPerSecond) {
+        return bytesPerSecond < 0 ? "unlimited" : String.format(Locale.ROOT, "%.0f kbit/s", bytesPerSecond * 8 / 1000);
+    }
+}
@@ -0,0 +1,354 @@
+package org.example.base;
+
+import org.example.utils.PageTimings;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonOutput;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records a test's network traffic through the Chrome DevTools Protocol as HAR
+ * Listens to the raw Network.* events (no CDP-version-specific classes), so it
+ * works with any Chrome or Edge version. Each finished request is appended to
+ * target/har/<Class.method>.har right away; stop() closes the file.
+ *
+ * API calls (/api/ URLs) are matched to the page transitions recorded by
+ * PageTimings (searchUser, saveUser, userManagement = user table load) by
+ * time, and the slowest call behind each transition is reported, so a slow
+ * test shows whether the backend or the UI took the time.
+ *
+ *   -Dhar=true              record (Chrome and Edge only, default: off)
+ *   -Dhar.slowApiMs=N       report API calls slower than N ms (default: 500)
+ */
+public final class NetworkRecorder {
+
+    private static final Path OUTPUT_DIR = Paths.get("target", "har");
+    private static final Json JSON = new Json();
+    private static final int SLOWEST = 5;
+
+    private final DevTools devTools;
+    private final Path file;
+    private final BufferedWriter writer;
+    // requestId -> entry being built
+    private final Map<String, Exchange> pending = new ConcurrentHashMap<>();
+    private final List<Exchange> finished = Collections.synchronizedList(new ArrayList<>());
+    private boolean firstEntry = true;
+
+    private NetworkRecorder(DevTools devTools, Path file) throws IOException {
+        this.devTools = devTools;
+        this.file = file;
+        Files.createDirectories(file.getParent());
+        this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+        writer.write("{\"log\": {\"version\": \"1.2\", \"creator\": {\"name\": \"agrigen-automation\", \"version\": \"1.0\"},"
+                + " \"pages\": [], \"entries\": [\n");
+    }
+
+    /**
+     * Check if HAR recording is switched on
+     * @return true if -Dhar=true
+     */
+    public static boolean isEnabled() {
+        return Boolean.getBoolean("har");
+    }
+
+    /**
+     * Start recording a test's requests
+     * @param driver Undecorated driver of the test
+     * @param testName File name, e.g. "UserManagementTest.testSearchExistingUser"
+     * @return Recorder, or null if the browser has no DevTools connection
+     */
+    public static NetworkRecorder start(WebDriver driver, String testName) {
+        WebDriver target = driver;
+        while (target instanceof WrapsDriver && !(target instanceof HasDevTools)) {
+            target = ((WrapsDriver) target).getWrappedDriver();
+        }
+        if (!(target instanceof HasDevTools)) {
+            System.out.println("⚠ HAR recording needs Chrome or Edge, skipping " + testName);
+            return null;
+        }
+        try {
+            DevTools devTools = ((HasDevTools) target).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            NetworkRecorder recorder = new NetworkRecorder(devTools,
+                    OUTPUT_DIR.resolve(testName.replaceAll("[^A-Za-z0-9._-]", "_") + ".har"));
+            recorder.listen();
+            return recorder;
+        } catch (Exception e) {
+            System.out.println("⚠ Could not start HAR recording: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void listen() {
+        devTools.addListener(event("Network.requestWillBeSent"), this::onRequest);
+        devTools.addListener(event("Network.responseReceived"), this::onResponse);
+        devTools.addListener(event("Network.loadingFinished"), this::onFinished);
+        devTools.addListener(event("Network.loadingFailed"), this::onFailed);
+        devTools.send(new Command<>("Network.enable", Collections.emptyMap()));
+    }
+
+    /**
+     * Stop recording, close the HAR file and report the slowest API calls
+     * @param transitions Page transitions of the test, see PageTimings.getTransitions()
+     * @return Report lines, empty if there were no API calls
+     */
+    public List<String> stop(List<PageTimings.Transition> transitions) {
+        try {
+            devTools.send(new Command<>("Network.disable", Collections.emptyMap()));
+            devTools.clearListeners();
+        } catch (Exception e) {
+            // Session already gone; the HAR file is still closed below
+        }
+        synchronized (this) {
+            try {
+                writer.write("\n]}}\n");
+                writer.close();
+            } catch (IOException e) {
+                System.out.println("✗ Failed to write HAR file: " + e.getMessage());
+            }
+        }
+
+        List<String> report = report(transitions);
+        report.forEach(System.out::println);
+        System.out.println("✓ HAR file: " + file);
+        return report;
+    }
+
+    private List<String> report(List<PageTimings.Transition> transitions) {
+        List<Exchange> apiCalls = new ArrayList<>();
+        synchronized (finished) {
+            for (Exchange exchange : finished) {
+                if (exchange.url.contains("/api/")) {
+                    apiCalls.add(exchange);
+                }
+            }
+        }
+        List<String> report = new ArrayList<>();
+        if (apiCalls.isEmpty()) {
+            return report;
+        }
+        apiCalls.sort(Comparator.comparingDouble((Exchange e) -> e.timeMillis).reversed());
+        long slowMillis = Long.getLong("har.slowApiMs", 500L);
+
+        for (PageTimings.Transition transition : transitions) {
+            for (Exchange call : apiCalls) {
+                if (call.startEpochMillis >= transition.getBeginEpochMillis()
+                        && call.startEpochMillis <= transition.getEndEpochMillis()) {
+                    report.add(String.format(Locale.ROOT, "%s Slowest API call behind %s (%d ms): %s %s %.0f ms, %s",
+                            call.timeMillis >= slowMillis ? "⚠" : "✓", transition.getName(),
+                            transition.getDurationMillis(), call.method, call.url, call.timeMillis, call.statusText()));
+                    break;
+                }
+            }
+        }
+        for (Exchange call : apiCalls.subList(0, Math.min(SLOWEST, apiCalls.size()))) {
+            if (call.timeMillis >= slowMillis) {
+                report.add(String.format(Locale.ROOT, "⚠ Slow API call: %s %s %.0f ms, %s",
+                        call.method, call.url, call.timeMillis, call.statusText()));
+            }
+        }
+        return report;
+    }
+
+    // ==================== CDP EVENTS ====================
+
+    @SuppressWarnings("unchecked")
+    private void onRequest(Map<String, Object> event) {
+        String requestId = String.valueOf(event.get("requestId"));
+        Exchange previous = pending.remove(requestId);
+        if (previous != null && event.get("redirectResponse") instanceof Map) {
+            // A redirect reuses the request id: close the previous hop
+            previous.response((Map<String, Object>) event.get("redirectResponse"));
+            complete(previous, number(event.get("timestamp")), 0);
+        }
+        Map<String, Object> request = (Map<String, Object>) event.get("request");
+        if (request == null) {
+            return;
+        }
+        Exchange exchange = new Exchange();
+        exchange.url = String.valueOf(request.get("url"));
+        exchange.method = String.valueOf(request.get("method"));
+        exchange.requestHeaders = (Map<String, Object>) request.getOrDefault("headers", Collections.emptyMap());
+        exchange.postData = request.get("postData") == null ? null : request.get("postData").toString();
+        exchange.type = String.valueOf(event.get("type"));
+        exchange.startEpochMillis = number(event.get("wallTime")) * 1000;
+        exchange.startTimestamp = number(event.get("timestamp"));
+        pending.put(requestId, exchange);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onResponse(Map<String, Object> event) {
+        Exchange exchange = pending.get(String.valueOf(event.get("requestId")));
+        if (exchange != null && event.get("response") instanceof Map) {
+            exchange.response((Map<String, Object>) event.get("response"));
+        }
+    }
+
+    private void onFinished(Map<String, Object> event) {
+        Exchange exchange = pending.remove(String.valueOf(event.get("requestId")));
+        if (exchange != null) {
+            complete(exchange, number(event.get("timestamp")), (long) number(event.get("encodedDataLength")));
+        }
+    }
+
+    private void onFailed(Map<String, Object> event) {
+        Exchange exchange = pending.remove(String.valueOf(event.get("requestId")));
+        if (exchange != null) {
+            exchange.error = String.valueOf(event.get("errorText"));
+            complete(exchange, number(event.get("timestamp")), 0);
+        }
+    }
+
+    private void complete(Exchange exchange, double endTimestamp, long bodyBytes) {
+        exchange.timeMillis = Math.max(0, (endTimestamp - exchange.startTimestamp) * 1000);
+        exchange.bodyBytes = bodyBytes;
+        finished.add(exchange);
+        synchronized (this) {
+            try {
+                writer.write((firstEntry ? "" : ",\n") + compact(exchange.toHar()));
+                firstEntry = false;
+            } catch (IOException e) {
+                // Writer closed by stop(); late events are dropped
+            }
+        }
+    }
+
+    // One line per entry keeps the streamed file small and greppable
+    private static String compact(Object value) {
+        StringBuilder json = new StringBuilder();
+        try (JsonOutput output = JSON.newOutput(json)) {
+            output.setPrettyPrint(false);
+            output.write(value);
+        }
+        return json.toString();
+    }
+
+    private static Event<Map<String, Object>> event(String method) {
+        return new Event<>(method, input -> input.read(Json.MAP_TYPE));
+    }
+
+    private static double number(Object value) {
+        return value instanceof Number ? ((Number) value).doubleValue() : 0;
+    }
+
+    /**
+     * One request and its response
+     */
+    private static final class Exchange {
+        private String url;
+        private String method;
+        private String type;
+        private String postData;
+        private Map<String, Object> requestHeaders;
+        private double startEpochMillis;
+        private double startTimestamp;
+        private double timeMillis;
+        private long bodyBytes;
+        private int status;
+        private String statusMessage = "";
+        private String protocol = "";
+        private String mimeType = "";
+        private Map<String, Object> responseHeaders = Collections.emptyMap();
+        private double waitMillis = -1;
+        private String error;
+
+        @SuppressWarnings("unchecked")
+        private void response(Map<String, Object> response) {
+            status = (int) number(response.get("status"));
+            statusMessage = String.valueOf(response.getOrDefault("statusText", ""));
+            protocol = String.valueOf(response.getOrDefault("protocol", ""));
+            mimeType = String.valueOf(response.getOrDefault("mimeType", ""));
+            if (response.get("headers") instanceof Map) {
+                responseHeaders = (Map<String, Object>) response.get("headers");
+            }
+            if (response.get("timing") instanceof Map) {
+                // Time to first byte after the request was sent
+                Map<String, Object> timing = (Map<String, Object>) response.get("timing");
+                waitMillis = number(timing.get("receiveHeadersEnd")) - number(timing.get("sendEnd"));
+            }
+        }
+
+        private String statusText() {
+            return error != null ? "failed: " + error : "HTTP " + status;
+        }
+
+        private Map<String, Object> toHar() {
+            Map<String, Object> request = new LinkedHashMap<>();
+            request.put("method", method);
+            request.put("url", url);
+            request.put("httpVersion", protocol);
+            request.put("headers", headers(requestHeaders));
+            request.put("queryString", Collections.emptyList());
+            request.put("cookies", Collections.emptyList());
+            request.put("headersSize", -1);
+            request.put("bodySize", postData == null ? 0 : postData.length());
+            if (postData != null) {
+                Map<String, Object> post = new LinkedHashMap<>();
+                post.put("mimeType", String.valueOf(requestHeaders.getOrDefault("Content-Type", "")));
+                post.put("text", postData);
+                request.put("postData", post);
+            }
+
+            Map<String, Object> content = new LinkedHashMap<>();
+            content.put("size", bodyBytes);
+            content.put("mimeType", mimeType);
+            Map<String, Object> response = new LinkedHashMap<>();
+            response.put("status", status);
+            response.put("statusText", error != null ? error : statusMessage);
+            response.put("httpVersion", protocol);
+            response.put("headers", headers(responseHeaders));
+            response.put("cookies", Collections.emptyList());
+            response.put("content", content);
+            response.put("redirectURL", String.valueOf(responseHeaders.getOrDefault("location", "")));
+            response.put("headersSize", -1);
+            response.put("bodySize", bodyBytes);
+
+            double wait = waitMillis >= 0 ? Math.min(waitMillis, timeMillis) : timeMillis;
+            Map<String, Object> timings = new LinkedHashMap<>();
+            timings.put("send", 0);
+            timings.put("wait", Math.round(wait));
+            timings.put("receive", Math.round(timeMillis - wait));
+
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("startedDateTime", Instant.ofEpochMilli((long) startEpochMillis).toString());
+            entry.put("time", Math.round(timeMillis));
+            entry.put("request", request);
+            entry.put("response", response);
+            entry.put("cache", Collections.emptyMap());
+            entry.put("timings", timings);
+            entry.put("_resourceType", type);
+            return entry;
+        }
+
+        private static List<Map<String, Object>> headers(Map<String, Object> headers) {
+            List<Map<String, Object>> list = new ArrayList<>();
+            headers.forEach((name, value) -> {
+                Map<String, Object> header = new LinkedHashMap<>();
+                header.put("name", name);
+                header.put("value", String.valueOf(value));
+                list.add(header);
+            });
+            return list;
+        }
+    }
+}
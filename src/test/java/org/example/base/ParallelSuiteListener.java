@@ -0,0 +1,60 @@
+package org.example.base;
+
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+
+import java.util.List;
+
+/**
+ * Applies the parallel execution settings before TestNG builds the suite
+ * Controlled with system properties so no suite file has to be edited:
+ *   -Dtest.parallel=methods|classes|none   (default: none)
+ *   -Dtest.threads=N                       (default: number of available cores)
+ *   -Ddataprovider.threads=N               parallel data provider threads (default: from the suite file)
+ */
+public class ParallelSuiteListener implements IAlterSuiteListener {
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        String mode = System.getProperty("test.parallel", "none").trim().toLowerCase();
+        XmlSuite.ParallelMode parallelMode;
+        try {
+            parallelMode = XmlSuite.ParallelMode.valueOf(mode.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            System.out.println("⚠ Unknown parallel mode: " + mode + ", running sequentially");
+            parallelMode = XmlSuite.ParallelMode.NONE;
+        }
+        int threadCount = getThreadCount();
+        Integer dataProviderThreads = Integer.getInteger("dataprovider.threads");
+
+        for (XmlSuite suite : suites) {
+            suite.setParallel(parallelMode);
+            suite.setThreadCount(threadCount);
+            if (dataProviderThreads != null) {
+                suite.setDataProviderThreadCount(Math.max(1, dataProviderThreads));
+            }
+        }
+
+        if (parallelMode != XmlSuite.ParallelMode.NONE) {
+            System.out.println("✓ Parallel mode: " + parallelMode + " with " + threadCount + " threads");
+        }
+    }
+
+    /**
+     * Resolve the worker thread count from -Dtest.threads
+     * @return Thread count, at least 1
+     */
+    public static int getThreadCount() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        String value = System.getProperty("test.threads", "").trim();
+        if (value.isEmpty()) {
+            return cores;
+        }
+        try {
+            return Math.max(1, Integer.parseInt(value));
+        } catch (NumberFormatException e) {
+            System.out.println("⚠ Invalid test.threads, using " + cores);
+            return cores;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package org.example.base;
+
+import org.testng.IAnnotationTransformer;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import org.testng.annotations.ITestAnnotation;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Wires FlakyRetryAnalyzer into the suite and keeps FlakinessHistory up to date
+ * Sets the analyzer on every test without one, records each attempt's
+ * outcome, and at the end of the suite saves the history and writes
+ * target/retry-report.txt with the retries used and the time they cost.
+ */
+public class RetryListener implements IAnnotationTransformer, ITestListener, ISuiteListener {
+
+    private static final Path REPORT_FILE = Paths.get(System.getProperty("user.dir"), "target", "retry-report.txt");
+
+    // Invocation (test + parameters) -> attempts seen so far
+    private final Map<String, Integer> attempts = new ConcurrentHashMap<>();
+    // Test key -> time spent re-running it, and whether the last re-run passed
+    private final Map<String, Long> retryMillis = new ConcurrentHashMap<>();
+    private final Map<String, Boolean> retryPassed = new ConcurrentHashMap<>();
+
+    /**
+     * Key under which a test's history is kept
+     * @param result Test result
+     * @return e.g. "LoginPageTest.testEmptyUsername"
+     */
+    static String keyOf(ITestResult result) {
+        return result.getMethod().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName();
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public void transform(ITestAnnotation annotation, Class testClass, Constructor testConstructor, Method testMethod) {
+        if (annotation.getRetryAnalyzerClass() == null
+                || annotation.getRetryAnalyzerClass() == org.testng.internal.annotations.DisabledRetryAnalyzer.class) {
+            annotation.setRetryAnalyzer(FlakyRetryAnalyzer.class);
+        }
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        boolean rerun = countAttempt(result);
+        FlakinessHistory.getInstance().record(keyOf(result), true);
+        if (rerun) {
+            FlakinessHistory.getInstance().recordPassedOnRetry(keyOf(result));
+            retryPassed.put(keyOf(result), true);
+        }
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        boolean rerun = countAttempt(result);
+        FlakinessHistory.getInstance().record(keyOf(result), false);
+        if (rerun) {
+            retryPassed.put(keyOf(result), false);
+        }
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        // A failed attempt that is being retried is reported as skipped
+        if (result.wasRetried()) {
+            countAttempt(result);
+            FlakinessHistory.getInstance().record(keyOf(result), false);
+        }
+    }
+
+    @Override
+    public void onStart(ISuite suite) {
+        // Nothing to prepare; the history is loaded on first use
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        FlakinessHistory.getInstance().save();
+        writeReport();
+    }
+
+    /**
+     * Count an attempt and charge re-runs to the retry cost
+     * @return true if this attempt was a re-run
+     */
+    private boolean countAttempt(ITestResult result) {
+        String invocation = result.getMethod().getQualifiedName() + Arrays.deepToString(result.getParameters())
+                + "@" + System.identityHashCode(result.getInstance());
+        int attempt = attempts.merge(invocation, 1, Integer::sum);
+        if (attempt > 1) {
+            retryMillis.merge(keyOf(result), result.getEndMillis() - result.getStartMillis(), Long::sum);
+            return true;
+        }
+        return false;
+    }
+
+    private void writeReport() {
+        long totalMillis = 0;
+        StringBuilder report = new StringBuilder("Retry report\n");
+        report.append("Retries used: ").append(FlakyRetryAnalyzer.getUsed())
+                .append(", budget left: ").append(FlakyRetryAnalyzer.getRemaining()).append("\n\n");
+        for (Map.Entry<String, Long> e : new TreeMap<>(retryMillis).entrySet()) {
+            totalMillis += e.getValue();
+            report.append(Boolean.TRUE.equals(retryPassed.get(e.getKey())) ? "✓ " : "✗ ")
+                    .append(e.getKey()).append(": ")
+                    .append(String.format(Locale.ROOT, "%.1f s", e.getValue() / 1000.0))
+                    .append(Boolean.TRUE.equals(retryPassed.get(e.getKey())) ? ", passed on retry" : ", failed again")
+                    .append(", history ").append(FlakinessHistory.getInstance().getOutcomes(e.getKey()))
+                    .append("\n");
+        }
+        report.append(String.format(Locale.ROOT, "%nTime spent on retries: %.1f s%n", totalMillis / 1000.0));
+        try {
+            Files.createDirectories(REPORT_FILE.getParent());
+            Files.write(REPORT_FILE, report.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            System.out.println("✗ Failed to write retry report: " + e.getMessage());
+        }
+        if (!retryMillis.isEmpty()) {
+            System.out.println(String.format(Locale.ROOT, "↻ %d retries cost %.1f s, see %s",
+                    FlakyRetryAnalyzer.getUsed(), totalMillis / 1000.0, REPORT_FILE));
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package org.example.base;
+
+import org.example.testdata.LoginTestData;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded pool of reusable browser sessions
+ * Instead of launching and quitting a browser for every test method, a test
+ * leases a session and hands it back when done. Returned sessions are reset
+ * (cookies, localStorage, sessionStorage cleared, back to the login page) and
+ * sessions that are unhealthy or older than the max age are evicted.
+ *
+ * Enable with -Dsession.pool=true
+ *   -Dsession.pool.size=N            maximum live sessions (default: test.threads)
+ *   -Dsession.pool.maxAgeMinutes=N   evict sessions older than this (default: 15)
+ *   -Dsession.pool.leaseTimeoutSeconds=N  wait for a free session (default: 120)
+ */
+public final class SessionPool {
+
+    private static final SessionPool INSTANCE = new SessionPool(
+            Integer.getInteger("session.pool.size", ParallelSuiteListener.getThreadCount()),
+            Duration.ofMinutes(Long.getLong("session.pool.maxAgeMinutes", 15L)),
+            Duration.ofSeconds(Long.getLong("session.pool.leaseTimeoutSeconds", 120L)));
+
+    private final int maxSize;
+    private final Duration maxAge;
+    private final Duration leaseTimeout;
+
+    private final Semaphore permits;
+    private final LinkedBlockingDeque<PooledSession> idle = new LinkedBlockingDeque<>();
+    private final Map<WebDriver, PooledSession> leased = new ConcurrentHashMap<>();
+
+    // Statistics
+    private final AtomicInteger created = new AtomicInteger();
+    private final AtomicInteger leases = new AtomicInteger();
+    private final AtomicInteger resets = new AtomicInteger();
+    private final AtomicInteger evictions = new AtomicInteger();
+
+    SessionPool(int maxSize, Duration maxAge, Duration leaseTimeout) {
+        this.maxSize = Math.max(1, maxSize);
+        this.maxAge = maxAge;
+        this.leaseTimeout = leaseTimeout;
+        this.permits = new Semaphore(this.maxSize, true);
+    }
+
+    /**
+     * Get the shared pool instance
+     * @return SessionPool singleton
+     */
+    public static SessionPool getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Check if session pooling is switched on
+     * @return true if -Dsession.pool=true
+     */
+    public static boolean isEnabled() {
+        return Boolean.getBoolean("session.pool");
+    }
+
+    /**
+     * Lease a session for the given browser, creating one if no idle session fits
+     * Blocks while the pool is at capacity
+     * @param browser Browser name (chrome, firefox, edge)
+     * @return WebDriver owned by the caller until release()
+     */
+    public WebDriver lease(String browser) {
+        try {
+            if (!permits.tryAcquire(leaseTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("No browser session available within " + leaseTimeout.getSeconds() + "s");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a browser session", e);
+        }
+
+        try {
+            PooledSession session;
+            while ((session = idle.pollFirst()) != null) {
+                if (session.browser.equalsIgnoreCase(browser) && isUsable(session)) {
+                    break;
+                }
+                evict(session, "unusable or different browser");
+            }
+
+            if (session == null) {
+                session = new PooledSession(DriverFactory.createDriver(browser), browser);
+                created.incrementAndGet();
+            }
+
+            session.uses++;
+            leased.put(session.driver, session);
+            leases.incrementAndGet();
+            return session.driver;
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Return a leased session to the pool
+     * The session is reset before becoming idle; if the reset fails it is evicted
+     * @param driver Driver previously obtained from lease()
+     */
+    public void release(WebDriver driver) {
+        PooledSession session = leased.remove(driver);
+        if (session == null) {
+            // Not a pooled session - nothing to give back
+            driver.quit();
+            return;
+        }
+
+        try {
+            if (isExpired(session)) {
+                evict(session, "max age reached");
+            } else if (reset(session)) {
+                idle.offerLast(session);
+            } else {
+                evict(session, "reset failed");
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Discard a leased session instead of returning it (e.g. after a browser crash)
+     * @param driver Driver previously obtained from lease()
+     */
+    public void invalidate(WebDriver driver) {
+        PooledSession session = leased.remove(driver);
+        if (session != null) {
+            evict(session, "invalidated by test");
+            permits.release();
+        }
+    }
+
+    /**
+     * Quit every idle session and print the pool statistics
+     */
+    public void shutdown() {
+        List<PooledSession> remaining = new ArrayList<>();
+        idle.drainTo(remaining);
+        for (PooledSession session : remaining) {
+            quitQuietly(session.driver);
+        }
+        System.out.println(getStatistics());
+    }
+
+    /**
+     * Clear cookies and web storage, then go back to the login page
+     * @param session Session to reset
+     * @return true if the session is clean and usable
+     */
+    private boolean reset(PooledSession session) {
+        try {
+            WebDriver driver = session.driver;
+            try {
+                ((JavascriptExecutor) driver).executeScript(
+                        "try { window.localStorage.clear(); } catch (e) {}" +
+                        "try { window.sessionStorage.clear(); } catch (e) {}");
+            } catch (Exception ignored) {
+                // Storage is not reachable on about:blank or error pages
+            }
+            driver.manage().deleteAllCookies();
+            driver.get(LoginTestData.LOGIN_PAGE_URL);
+            resets.incrementAndGet();
+            return true;
+        } catch (Exception e) {
+            System.out.println("⚠ Session reset failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean isUsable(PooledSession session) {
+        if (isExpired(session)) {
+            return false;
+        }
+        try {
+            // Cheap liveness probe - throws if the browser or driver died
+            session.driver.getWindowHandle();
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private boolean isExpired(PooledSession session) {
+        return System.currentTimeMillis() - session.createdAt > maxAge.toMillis();
+    }
+
+    private void evict(PooledSession session, String reason) {
+        evictions.incrementAndGet();
+        System.out.println("⚠ Evicting browser session (" + reason + ") after " + session.uses + " uses");
+        quitQuietly(session.driver);
+    }
+
+    private static void quitQuietly(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (Exception ignored) {
+            // Browser already gone
+        }
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public int getCreatedCount() {
+        return created.get();
+    }
+
+    public int getLeaseCount() {
+        return leases.get();
+    }
+
+    public int getResetCount() {
+        return resets.get();
+    }
+
+    public int getEvictionCount() {
+        return evictions.get();
+    }
+
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    public int getLeasedCount() {
+        return leased.size();
+    }
+
+    /**
+     * Get a one-line summary of pool activity
+     * @return Statistics text
+     */
+    public String getStatistics() {
+        return "Session pool: max=" + maxSize +
+                ", created=" + created.get() +
+                ", leases=" + leases.get() +
+                ", resets=" + resets.get() +
+                ", evictions=" + evictions.get() +
+                ", idle=" + idle.size() +
+                ", leased=" + leased.size();
+    }
+
+    /**
+     * A browser session together with its bookkeeping
+     */
+    private static final class PooledSession {
+        private final WebDriver driver;
+        private final String browser;
+        private final long createdAt = System.currentTimeMillis();
+        private int uses;
+
+        private PooledSession(WebDriver driver, String browser) {
+            this.driver = driver;
+            this.browser = browser;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.base;
+
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps only the test methods of this fork's shard (see ShardPlanner)
+ * With -Dshard.count=N each fork runs -Dshard.index=0..N-1; the methods of
+ * every <test> in the suite are planned separately, so the results of all
+ * shards together cover the whole suite. Execution order within a shard is
+ * unchanged.
+ */
+public class ShardInterceptor implements IMethodInterceptor {
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        int shardCount = ShardPlanner.getShardCount();
+        if (shardCount <= 1 || methods.isEmpty()) {
+            return methods;
+        }
+        int shardIndex = ShardPlanner.getShardIndex();
+        if (shardIndex < 0 || shardIndex >= shardCount) {
+            throw new IllegalArgumentException("shard.index must be between 0 and " + (shardCount - 1) + ": " + shardIndex);
+        }
+
+        Set<String> tests = new LinkedHashSet<>();
+        for (IMethodInstance method : methods) {
+            tests.add(method.getMethod().getQualifiedName());
+        }
+        Map<String, Long> durations = ShardPlanner.readDurations(ShardPlanner.getDurationsFile());
+        List<List<String>> plan = ShardPlanner.plan(tests, durations, shardCount);
+        Set<String> mine = new HashSet<>(plan.get(shardIndex));
+
+        List<IMethodInstance> kept = new ArrayList<>();
+        for (IMethodInstance method : methods) {
+            if (mine.contains(method.getMethod().getQualifiedName())) {
+                kept.add(method);
+            }
+        }
+        System.out.println(String.format(Locale.ROOT, "✓ Shard %d/%d of '%s': %d of %d tests, estimated %.1f s%s",
+                shardIndex, shardCount, context.getName(), kept.size(), methods.size(),
+                ShardPlanner.estimate(plan.get(shardIndex), durations) / 1000.0,
+                durations.isEmpty() ? " (no duration history, split by count)" : ""));
+        return kept;
+    }
+}
@@ -0,0 +1,199 @@
+package org.example.base;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Splits test methods into shards of about equal run time
+ * Durations come from a previous run's testng-results.xml; a test's cost is
+ * its own duration plus the setup/tearDown configuration methods around it
+ * (login, browser start). Tests are bin-packed longest first onto the least
+ * loaded shard, so the plan depends only on the durations file and every
+ * fork computes the same one. Tests without history are estimated at the
+ * median known duration.
+ *
+ *   -Dshard.count=N          number of shards (1 = no sharding)
+ *   -Dshard.index=I          shard run by this fork, 0..N-1 (see ShardInterceptor)
+ *   -Dshard.durations=FILE   durations source (default: target/surefire-reports/testng-results.xml)
+ *
+ * Print the plan without running anything:
+ *   mvn test-compile exec:java -Dexec.classpathScope=test
+ *       -Dexec.mainClass=org.example.base.ShardPlanner -Dshard.count=3
+ */
+public final class ShardPlanner {
+
+    private static final Path DEFAULT_DURATIONS = Paths.get("target", "surefire-reports", "testng-results.xml");
+
+    private ShardPlanner() {
+    }
+
+    public static int getShardCount() {
+        return Math.max(1, Integer.getInteger("shard.count", 1));
+    }
+
+    public static int getShardIndex() {
+        return Integer.getInteger("shard.index", 0);
+    }
+
+    public static Path getDurationsFile() {
+        String configured = System.getProperty("shard.durations");
+        return configured == null || configured.trim().isEmpty() ? DEFAULT_DURATIONS : Paths.get(configured.trim());
+    }
+
+    /**
+     * Read per-test durations from a testng-results.xml file
+     * Retried tests add up all their attempts: TestNG reports a failed attempt
+     * that is re-run as SKIP with retried="true". Other skipped tests are ignored.
+     * @param file testng-results.xml of an earlier (or merged) run
+     * @return Qualified test name (e.g. "tests.LoginPageTest.testValidLogin") -> milliseconds, empty if unreadable
+     */
+    public static Map<String, Long> readDurations(Path file) {
+        Map<String, Long> durations = new HashMap<>();
+        if (!Files.exists(file)) {
+            return durations;
+        }
+        try {
+            Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(file.toFile());
+            NodeList classes = document.getElementsByTagName("class");
+            for (int c = 0; c < classes.getLength(); c++) {
+                Element testClass = (Element) classes.item(c);
+                String className = testClass.getAttribute("name");
+                NodeList methods = testClass.getElementsByTagName("test-method");
+
+                // Configuration time is charged to the test it surrounds
+                long pendingConfig = 0;
+                String lastTest = null;
+                for (int m = 0; m < methods.getLength(); m++) {
+                    Element method = (Element) methods.item(m);
+                    long millis = parseLong(method.getAttribute("duration-ms"));
+                    if ("true".equals(method.getAttribute("is-config"))) {
+                        pendingConfig += millis;
+                        continue;
+                    }
+                    if ("SKIP".equals(method.getAttribute("status"))
+                            && !"true".equals(method.getAttribute("retried"))) {
+                        pendingConfig = 0;
+                        continue;
+                    }
+                    lastTest = className + "." + method.getAttribute("name");
+                    durations.merge(lastTest, millis + pendingConfig, Long::sum);
+                    pendingConfig = 0;
+                }
+                if (lastTest != null && pendingConfig > 0) {
+                    durations.merge(lastTest, pendingConfig, Long::sum);
+                }
+            }
+        } catch (Exception e) {
+            System.out.println("⚠ Could not read test durations from " + file + ": " + e.getMessage());
+        }
+        return durations;
+    }
+
+    /**
+     * Bin-pack tests into shards, longest first onto the least loaded shard
+     * @param tests Qualified test names to distribute
+     * @param durations Known durations in milliseconds
+     * @param shardCount Number of shards
+     * @return One list of test names per shard, each in the order given
+     */
+    public static List<List<String>> plan(Collection<String> tests, Map<String, Long> durations, int shardCount) {
+        long estimate = median(durations.values());
+        List<String> byDuration = new ArrayList<>(tests);
+        byDuration.sort((a, b) -> {
+            int compare = Long.compare(durations.getOrDefault(b, estimate), durations.getOrDefault(a, estimate));
+            return compare != 0 ? compare : a.compareTo(b);
+        });
+
+        long[] load = new long[shardCount];
+        Map<String, Integer> assigned = new HashMap<>();
+        for (String test : byDuration) {
+            int target = 0;
+            for (int s = 1; s < shardCount; s++) {
+                if (load[s] < load[target]) {
+                    target = s;
+                }
+            }
+            load[target] += durations.getOrDefault(test, estimate);
+            assigned.put(test, target);
+        }
+
+        List<List<String>> shards = new ArrayList<>();
+        for (int s = 0; s < shardCount; s++) {
+            shards.add(new ArrayList<>());
+        }
+        for (String test : tests) {
+            shards.get(assigned.get(test)).add(test);
+        }
+        return shards;
+    }
+
+    /**
+     * Estimated run time of a shard
+     * @param shard Test names
+     * @param durations Known durations in milliseconds
+     * @return Sum of known durations, the median for unknown tests
+     */
+    public static long estimate(List<String> shard, Map<String, Long> durations) {
+        long estimate = median(durations.values());
+        long total = 0;
+        for (String test : shard) {
+            total += durations.getOrDefault(test, estimate);
+        }
+        return total;
+    }
+
+    /**
+     * Print the plan for -Dshard.count shards over all tests in the durations file
+     */
+    public static void main(String[] args) {
+        Path file = getDurationsFile();
+        Map<String, Long> durations = readDurations(file);
+        if (durations.isEmpty()) {
+            System.out.println("✗ No test durations in " + file + ", run the suite once first");
+            return;
+        }
+        List<String> tests = new ArrayList<>(durations.keySet());
+        Collections.sort(tests);
+        List<List<String>> shards = plan(tests, durations, getShardCount());
+        long total = estimate(tests, durations);
+        System.out.println(String.format(Locale.ROOT, "Shard plan from %s: %d tests, %.1f s in total",
+                file, tests.size(), total / 1000.0));
+        for (int s = 0; s < shards.size(); s++) {
+            System.out.println(String.format(Locale.ROOT, "%nShard %d: %d tests, %.1f s",
+                    s, shards.get(s).size(), estimate(shards.get(s), durations) / 1000.0));
+            for (String test : shards.get(s)) {
+                System.out.println(String.format(Locale.ROOT, "  %-60s %6.1f s", test, durations.get(test) / 1000.0));
+            }
+        }
+    }
+
+    private static long median(Collection<Long> values) {
+        if (values.isEmpty()) {
+            return 1;
+        }
+        List<Long> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        return Math.max(1, sorted.get(sorted.size() / 2));
+    }
+
+    private static long parseLong(String value) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
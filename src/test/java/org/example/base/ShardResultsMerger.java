@@ -0,0 +1,118 @@
+package org.example.base;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Merges the testng-results.xml files of all shards into one
+ * Counters (total, passed, failed, skipped, ignored) are summed and every
+ * shard's <suite> is copied into the merged file. The merged file is also
+ * what ShardPlanner reads for the next plan.
+ *
+ *   mvn test-compile exec:java -Dexec.classpathScope=test
+ *       -Dexec.mainClass=org.example.base.ShardResultsMerger
+ *       [-Dexec.args="OUTPUT INPUT..."]
+ *
+ * Default inputs: target/surefire-reports/shard-{@literal *}/testng-results.xml,
+ * default output: target/surefire-reports/testng-results.xml
+ */
+public final class ShardResultsMerger {
+
+    private static final Path REPORTS_DIR = Paths.get("target", "surefire-reports");
+    private static final String[] COUNTERS = {"total", "passed", "failed", "skipped", "ignored", "retried"};
+
+    private ShardResultsMerger() {
+    }
+
+    /**
+     * Merge result files
+     * @param output File to write
+     * @param inputs testng-results.xml of each shard
+     * @return Merged counters as "total=.. passed=.. failed=.. skipped=.."
+     * @throws Exception if a file cannot be read or written
+     */
+    public static String merge(Path output, List<Path> inputs) throws Exception {
+        DocumentBuilder builder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
+        Document merged = builder.newDocument();
+        Element root = merged.createElement("testng-results");
+        merged.appendChild(root);
+        root.appendChild(merged.createElement("reporter-output"));
+
+        long[] totals = new long[COUNTERS.length];
+        for (Path input : inputs) {
+            Document shard = builder.parse(input.toFile());
+            Element shardRoot = shard.getDocumentElement();
+            for (int i = 0; i < COUNTERS.length; i++) {
+                String value = shardRoot.getAttribute(COUNTERS[i]);
+                totals[i] += value.isEmpty() ? 0 : Long.parseLong(value.trim());
+            }
+            NodeList suites = shardRoot.getElementsByTagName("suite");
+            for (int s = 0; s < suites.getLength(); s++) {
+                Node suite = merged.importNode(suites.item(s), true);
+                ((Element) suite).setAttribute("shard", input.getParent().getFileName().toString());
+                root.appendChild(suite);
+            }
+        }
+
+        StringBuilder summary = new StringBuilder();
+        for (int i = 0; i < COUNTERS.length; i++) {
+            root.setAttribute(COUNTERS[i], String.valueOf(totals[i]));
+            summary.append(i == 0 ? "" : " ").append(COUNTERS[i]).append('=').append(totals[i]);
+        }
+
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        Transformer transformer = TransformerFactory.newInstance().newTransformer();
+        transformer.setOutputProperty(OutputKeys.INDENT, "yes");
+        transformer.transform(new DOMSource(merged), new StreamResult(output.toFile()));
+        return summary.toString();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path output = args.length > 0 ? Paths.get(args[0]) : REPORTS_DIR.resolve("testng-results.xml");
+        List<Path> inputs = new ArrayList<>();
+        if (args.length > 1) {
+            for (int i = 1; i < args.length; i++) {
+                inputs.add(Paths.get(args[i]));
+            }
+        } else {
+            inputs = findShardResults();
+        }
+        if (inputs.isEmpty()) {
+            System.out.println("✗ No shard results found under " + REPORTS_DIR + "/shard-*");
+            return;
+        }
+        String summary = merge(output, inputs);
+        System.out.println("✓ Merged " + inputs.size() + " shard results into " + output + ": " + summary);
+    }
+
+    private static List<Path> findShardResults() throws IOException {
+        if (!Files.isDirectory(REPORTS_DIR)) {
+            return new ArrayList<>();
+        }
+        try (Stream<Path> dirs = Files.list(REPORTS_DIR)) {
+            return dirs.filter(dir -> dir.getFileName().toString().startsWith("shard-"))
+                    .map(dir -> dir.resolve("testng-results.xml"))
+                    .filter(Files::exists)
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,327 @@
+package org.example.base;
+
+import org.example.Locators.Locators;
+import org.example.pages.LoginPage;
+import org.example.testdata.LoginTestData;
+import org.example.utils.UiWait;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Authenticated browser state (cookies, localStorage, sessionStorage)
+ * Captured once after a real UI login, saved to target/auth/storage-state.json
+ * and injected into fresh sessions so tests can skip the login flow.
+ * A stale or rejected state triggers a normal login and a new capture.
+ *
+ *   -Dauth.state=false                 always log in through the UI
+ *   -Dauth.state.maxAgeMinutes=N       treat saved state as stale after N minutes (default: 30)
+ */
+public final class StorageState {
+
+    private static final Path STATE_FILE = Paths.get(System.getProperty("user.dir"), "target", "auth", "storage-state.json");
+    private static final Duration MAX_AGE = Duration.ofMinutes(Long.getLong("auth.state.maxAgeMinutes", 30L));
+    private static final Json JSON = new Json();
+    private static final Object LOCK = new Object();
+
+    private static final String READ_STORAGE_SCRIPT =
+            "var read = function(s) { var o = {}; for (var i = 0; i < s.length; i++) { var k = s.key(i); o[k] = s.getItem(k); } return o; };" +
+            "return { local: read(window.localStorage), session: read(window.sessionStorage) };";
+
+    private static final String WRITE_STORAGE_SCRIPT =
+            "var local = arguments[0], session = arguments[1];" +
+            "Object.keys(local).forEach(function(k) { window.localStorage.setItem(k, local[k]); });" +
+            "Object.keys(session).forEach(function(k) { window.sessionStorage.setItem(k, session[k]); });";
+
+    // Last state loaded or captured in this JVM
+    private static volatile StorageState cached;
+
+    private final String username;
+    private final long capturedAt;
+    private final List<Map<String, Object>> cookies;
+    private final Map<String, String> localStorage;
+    private final Map<String, String> sessionStorage;
+
+    private StorageState(String username, long capturedAt, List<Map<String, Object>> cookies,
+                         Map<String, String> localStorage, Map<String, String> sessionStorage) {
+        this.username = username;
+        this.capturedAt = capturedAt;
+        this.cookies = cookies;
+        this.localStorage = localStorage;
+        this.sessionStorage = sessionStorage;
+    }
+
+    /**
+     * Check if storage-state login is switched on
+     * @return false only when -Dauth.state=false
+     */
+    public static boolean isEnabled() {
+        return !"false".equalsIgnoreCase(System.getProperty("auth.state", "true"));
+    }
+
+    /**
+     * Bring the driver to an authenticated dashboard, reusing saved state when possible
+     * Falls back to LoginPage.loginAndWaitForDashboard and captures the new state
+     * @param driver WebDriver currently on the AgriGEN origin
+     * @param username Username
+     * @param password Password
+     * @return true if the dashboard was reached
+     */
+    public static boolean loginWithState(WebDriver driver, String username, String password) {
+        if (!isEnabled()) {
+            return new LoginPage(driver).loginAndWaitForDashboard(username, password);
+        }
+
+        StorageState state = current(username);
+        if (state != null && state.applyTo(driver)) {
+            System.out.println("✓ Restored saved login state (" + state.getAgeSeconds() + "s old)");
+            return true;
+        }
+
+        // Serialize UI logins so parallel threads do not all log in at once
+        synchronized (LOCK) {
+            StorageState fresh = current(username);
+            if (fresh != null && fresh != state && fresh.applyTo(driver)) {
+                System.out.println("✓ Restored login state captured by another thread");
+                return true;
+            }
+
+            boolean loggedIn = new LoginPage(driver).loginAndWaitForDashboard(username, password);
+            if (loggedIn) {
+                capture(driver, username).save();
+            }
+            return loggedIn;
+        }
+    }
+
+    /**
+     * Read cookies and web storage from an authenticated session
+     * @param driver WebDriver after a successful login
+     * @param username User the state belongs to
+     * @return Captured state
+     */
+    @SuppressWarnings("unchecked")
+    public static StorageState capture(WebDriver driver, String username) {
+        List<Map<String, Object>> cookies = new ArrayList<>();
+        for (Cookie cookie : driver.manage().getCookies()) {
+            Map<String, Object> json = new LinkedHashMap<>(cookie.toJson());
+            // Store expiry as epoch seconds, the same form it has after a save/load round trip
+            if (cookie.getExpiry() != null) {
+                json.put("expiry", cookie.getExpiry().getTime() / 1000L);
+            }
+            cookies.add(json);
+        }
+
+        Map<String, Object> storage = (Map<String, Object>) ((JavascriptExecutor) driver).executeScript(READ_STORAGE_SCRIPT);
+        StorageState state = new StorageState(username, System.currentTimeMillis(), cookies,
+                toStringMap(storage.get("local")), toStringMap(storage.get("session")));
+        cached = state;
+        return state;
+    }
+
+    /**
+     * Inject this state into a session and verify the dashboard accepts it
+     * @param driver WebDriver currently on the AgriGEN origin
+     * @return true if the session is authenticated
+     */
+    public boolean applyTo(WebDriver driver) {
+        try {
+            for (Map<String, Object> cookie : cookies) {
+                driver.manage().addCookie(toCookie(cookie));
+            }
+            ((JavascriptExecutor) driver).executeScript(WRITE_STORAGE_SCRIPT, localStorage, sessionStorage);
+
+            driver.get(LoginTestData.BASE_URL + LoginTestData.DASHBOARD_URL);
+            // The URL alone proves nothing: the SPA redirects a rejected session to /signin
+            // client-side, after the dashboard URL has loaded. Only a signed-in user gets the menu.
+            new WebDriverWait(driver, Duration.ofSeconds(10)).until(ExpectedConditions.or(
+                    ExpectedConditions.visibilityOfElementLocated(Locators.DashboardPage.USER_MANAGEMENT),
+                    ExpectedConditions.urlContains("/signin")));
+            new UiWait(driver).forQuiet();
+
+            if (driver.getCurrentUrl().contains(LoginTestData.DASHBOARD_URL)
+                    && !driver.findElements(Locators.DashboardPage.USER_MANAGEMENT).isEmpty()) {
+                return true;
+            }
+            System.out.println("⚠ Saved login state was rejected, logging in again");
+        } catch (Exception e) {
+            System.out.println("⚠ Could not apply saved login state: " + e.getMessage());
+        }
+
+        // Leave a clean login page for the UI fallback
+        reject();
+        try {
+            driver.manage().deleteAllCookies();
+            driver.get(LoginTestData.LOGIN_PAGE_URL);
+        } catch (Exception ignored) {
+        }
+        return false;
+    }
+
+    /**
+     * Check if the state is recent enough and none of its cookies have expired
+     * @return true if the state can be reused
+     */
+    public boolean isFresh() {
+        long now = System.currentTimeMillis();
+        if (now - capturedAt > MAX_AGE.toMillis()) {
+            return false;
+        }
+        for (Map<String, Object> cookie : cookies) {
+            Object expiry = cookie.get("expiry");
+            if (expiry instanceof Number && ((Number) expiry).longValue() * 1000L <= now) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Write the state to target/auth/storage-state.json
+     */
+    public void save() {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("username", username);
+        json.put("capturedAt", capturedAt);
+        json.put("cookies", cookies);
+        json.put("localStorage", localStorage);
+        json.put("sessionStorage", sessionStorage);
+        try {
+            Files.createDirectories(STATE_FILE.getParent());
+            Files.write(STATE_FILE, JSON.toJson(json).getBytes(StandardCharsets.UTF_8));
+            System.out.println("✓ Login state saved: " + STATE_FILE);
+        } catch (IOException e) {
+            System.out.println("✗ Failed to save login state: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Load the saved state from disk
+     * @return Saved state, or null if missing or unreadable
+     */
+    @SuppressWarnings("unchecked")
+    public static StorageState load() {
+        if (!Files.exists(STATE_FILE)) {
+            return null;
+        }
+        try {
+            String content = new String(Files.readAllBytes(STATE_FILE), StandardCharsets.UTF_8);
+            Map<String, Object> json = JSON.toType(content, Json.MAP_TYPE);
+            List<Map<String, Object>> cookies = new ArrayList<>();
+            for (Object cookie : (List<Object>) json.getOrDefault("cookies", new ArrayList<>())) {
+                cookies.add((Map<String, Object>) cookie);
+            }
+            return new StorageState(
+                    String.valueOf(json.get("username")),
+                    ((Number) json.get("capturedAt")).longValue(),
+                    cookies,
+                    toStringMap(json.get("localStorage")),
+                    toStringMap(json.get("sessionStorage")));
+        } catch (Exception e) {
+            System.out.println("⚠ Ignoring unreadable login state: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Forget the cached state and delete the saved file
+     */
+    public static void invalidate() {
+        synchronized (LOCK) {
+            cached = null;
+            try {
+                Files.deleteIfExists(STATE_FILE);
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    /**
+     * Forget this state after the server rejected it
+     * A newer state captured by another thread in the meantime is kept, in memory and on disk
+     */
+    private void reject() {
+        synchronized (LOCK) {
+            if (cached == this) {
+                cached = null;
+            }
+            StorageState saved = load();
+            if (saved != null && saved.capturedAt == capturedAt && saved.username.equals(username)) {
+                try {
+                    Files.deleteIfExists(STATE_FILE);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public long getAgeSeconds() {
+        return (System.currentTimeMillis() - capturedAt) / 1000;
+    }
+
+    /**
+     * Get a fresh state for the user from memory or disk
+     * @param username Expected user
+     * @return Usable state, or null if a new login is needed
+     */
+    private static StorageState current(String username) {
+        StorageState state = cached;
+        if (state == null) {
+            state = load();
+        }
+        if (state == null || !username.equals(state.username) || !state.isFresh()) {
+            return null;
+        }
+        cached = state;
+        return state;
+    }
+
+    private static Cookie toCookie(Map<String, Object> json) {
+        Cookie.Builder builder = new Cookie.Builder(String.valueOf(json.get("name")), String.valueOf(json.get("value")));
+        if (json.get("path") != null) {
+            builder.path(String.valueOf(json.get("path")));
+        }
+        if (json.get("domain") != null) {
+            builder.domain(String.valueOf(json.get("domain")));
+        }
+        if (json.get("expiry") instanceof Number) {
+            builder.expiresOn(new Date(((Number) json.get("expiry")).longValue() * 1000L));
+        }
+        if (json.get("sameSite") != null) {
+            builder.sameSite(String.valueOf(json.get("sameSite")));
+        }
+        builder.isSecure(Boolean.TRUE.equals(json.get("secure")));
+        builder.isHttpOnly(Boolean.TRUE.equals(json.get("httpOnly")));
+        return builder.build();
+    }
+
+    private static Map<String, String> toStringMap(Object value) {
+        Map<String, String> result = new HashMap<>();
+        if (value instanceof Map) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                result.put(String.valueOf(entry.getKey()), entry.getValue() == null ? null : String.valueOf(entry.getValue()));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,179 @@
+package org.example.standin;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Settings of the local stand-in server: dataset size and, per route,
+ * latency and error rate. Route names:
+ *
+ *   signin, loader, dashboard, users (user list page), addUser (add user page),
+ *   api, api.login, api.users, static
+ *
+ * A route without its own settings uses its parent ("api.users" -> "api"),
+ * then the defaults. From system properties:
+ *   -Dstandin.port=N                    port to listen on (default: 0 = any free port)
+ *   -Dstandin.users=N                   number of users in the dataset (default: 25)
+ *   -Dstandin.pageSize=N                rows per table page (default: 5)
+ *   -Dstandin.seed=N                    seed for generated data and injected errors (default: 42)
+ *   -Dstandin.latencyMs=N               default latency of every route
+ *   -Dstandin.jitterMs=N                default random extra latency, 0..N ms
+ *   -Dstandin.errorRate=0.0..1.0        default share of requests answered with HTTP 500
+ *   -Dstandin.<route>.latencyMs=N       per-route override, e.g. -Dstandin.api.users.latencyMs=400
+ *   -Dstandin.<route>.jitterMs=N
+ *   -Dstandin.<route>.errorRate=X
+ */
+public class StandInConfig {
+
+    public static final List<String> ROUTES = Collections.unmodifiableList(Arrays.asList(
+            "signin", "loader", "dashboard", "users", "addUser", "api", "api.login", "api.users", "static"));
+
+    private final Map<String, RouteSettings> routes = new ConcurrentHashMap<>();
+    private RouteSettings defaults = new RouteSettings(0, 0, 0.0);
+    private int port;
+    private int userCount = 25;
+    private int pageSize = 5;
+    private long seed = 42L;
+
+    /**
+     * Build the configuration from -Dstandin.* system properties
+     * @return Configuration, defaults where nothing is set
+     */
+    public static StandInConfig fromSystemProperties() {
+        StandInConfig config = new StandInConfig();
+        config.port = Integer.getInteger("standin.port", 0);
+        config.userCount = Integer.getInteger("standin.users", config.userCount);
+        config.pageSize = Integer.getInteger("standin.pageSize", config.pageSize);
+        config.seed = Long.getLong("standin.seed", config.seed);
+        config.defaults = readRoute("standin.", config.defaults);
+
+        for (String route : ROUTES) {
+            String prefix = "standin." + route + ".";
+            if (System.getProperty(prefix + "latencyMs") != null
+                    || System.getProperty(prefix + "jitterMs") != null
+                    || System.getProperty(prefix + "errorRate") != null) {
+                config.routes.put(route, readRoute(prefix, config.settingsFor(route)));
+            }
+        }
+        return config;
+    }
+
+    /**
+     * Settings that apply to a route
+     * @param route Route name, e.g. "api.users"
+     * @return Own settings, else the parent's, else the defaults
+     */
+    public RouteSettings settingsFor(String route) {
+        String name = route;
+        while (name != null) {
+            RouteSettings settings = routes.get(name);
+            if (settings != null) {
+                return settings;
+            }
+            int dot = name.lastIndexOf('.');
+            name = dot < 0 ? null : name.substring(0, dot);
+        }
+        return defaults;
+    }
+
+    public StandInConfig latency(String route, long latencyMs) {
+        RouteSettings current = settingsFor(route);
+        routes.put(route, new RouteSettings(latencyMs, current.getJitterMs(), current.getErrorRate()));
+        return this;
+    }
+
+    public StandInConfig jitter(String route, long jitterMs) {
+        RouteSettings current = settingsFor(route);
+        routes.put(route, new RouteSettings(current.getLatencyMs(), jitterMs, current.getErrorRate()));
+        return this;
+    }
+
+    public StandInConfig errorRate(String route, double errorRate) {
+        RouteSettings current = settingsFor(route);
+        routes.put(route, new RouteSettings(current.getLatencyMs(), current.getJitterMs(), errorRate));
+        return this;
+    }
+
+    public StandInConfig port(int port) {
+        this.port = port;
+        return this;
+    }
+
+    public StandInConfig userCount(int userCount) {
+        this.userCount = userCount;
+        return this;
+    }
+
+    public StandInConfig pageSize(int pageSize) {
+        this.pageSize = pageSize;
+        return this;
+    }
+
+    public StandInConfig seed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public int getUserCount() {
+        return userCount;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    private static RouteSettings readRoute(String prefix, RouteSettings fallback) {
+        long latency = Long.getLong(prefix + "latencyMs", fallback.getLatencyMs());
+        long jitter = Long.getLong(prefix + "jitterMs", fallback.getJitterMs());
+        String rate = System.getProperty(prefix + "errorRate");
+        double errorRate = rate == null || rate.trim().isEmpty() ? fallback.getErrorRate() : Double.parseDouble(rate.trim());
+        return new RouteSettings(latency, jitter, errorRate);
+    }
+
+    /**
+     * Latency and error injection of one route
+     */
+    public static final class RouteSettings {
+        private final long latencyMs;
+        private final long jitterMs;
+        private final double errorRate;
+
+        public RouteSettings(long latencyMs, long jitterMs, double errorRate) {
+            if (errorRate < 0.0 || errorRate > 1.0) {
+                throw new IllegalArgumentException("errorRate must be between 0 and 1: " + errorRate);
+            }
+            this.latencyMs = Math.max(0, latencyMs);
+            this.jitterMs = Math.max(0, jitterMs);
+            this.errorRate = errorRate;
+        }
+
+        public long getLatencyMs() {
+            return latencyMs;
+        }
+
+        public long getJitterMs() {
+            return jitterMs;
+        }
+
+        public double getErrorRate() {
+            return errorRate;
+        }
+
+        @Override
+        public String toString() {
+            return latencyMs + "ms" + (jitterMs > 0 ? " (+0.." + jitterMs + "ms)" : "")
+                    + (errorRate > 0 ? ", " + (errorRate * 100) + "% errors" : "");
+        }
+    }
+}
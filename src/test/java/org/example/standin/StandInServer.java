@@ -0,0 +1,612 @@
+package org.example.standin;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.example.standin.StandInConfig.RouteSettings;
+import org.example.standin.StandInUserStore.StandInUser;
+import org.example.testdata.UserManagementTestData;
+import org.openqa.selenium.json.Json;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process stand-in for the AgriGEN QA server
+ * Serves /signin, /loader, /app/dashboard, /app/user-management/user and
+ * /app/user-management/user/add (also /user/add) with the MUI markup that
+ * Locators expects, backed by a small JSON API and an in-memory user table.
+ * Latency, error rate and dataset size come from StandInConfig, so runs are
+ * offline and repeatable.
+ *
+ *   API:  POST /api/auth/login, POST /api/auth/logout,
+ *         GET|POST /api/users, GET|PUT|DELETE /api/users/{username}
+ *         (session cookie or "Authorization: Bearer <token>")
+ */
+public class StandInServer {
+
+    public static final String SESSION_COOKIE = "agrigen_session";
+
+    private static final Json JSON = new Json();
+    private static final byte[] PNG = placeholderPng();
+
+    private final StandInConfig config;
+    private final StandInUserStore users;
+    private final Random random;
+    // Session token -> username
+    private final Map<String, String> sessions = new ConcurrentHashMap<>();
+    private final Map<String, String> templates = new ConcurrentHashMap<>();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong injectedErrors = new AtomicLong();
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public StandInServer(StandInConfig config) {
+        this.config = config;
+        this.users = new StandInUserStore(config.getUserCount(), config.getSeed());
+        this.random = new Random(config.getSeed());
+    }
+
+    /**
+     * Start listening on localhost
+     * @throws UncheckedIOException if the port cannot be bound
+     */
+    public synchronized void start() {
+        if (server != null) {
+            return;
+        }
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), config.getPort()), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot start stand-in server on port " + config.getPort(), e);
+        }
+        AtomicInteger threads = new AtomicInteger();
+        executor = Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, "standin-http-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+        System.out.println("✓ Stand-in server started: " + getBaseUrl() + " (" + users.size() + " users)");
+    }
+
+    /**
+     * Stop the server and print request statistics
+     */
+    public synchronized void stop() {
+        if (server == null) {
+            return;
+        }
+        server.stop(0);
+        executor.shutdownNow();
+        server = null;
+        System.out.println("✓ Stand-in server stopped: " + requests.get() + " requests, "
+                + injectedErrors.get() + " injected errors");
+    }
+
+    public synchronized boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * @return e.g. http://localhost:51234
+     */
+    public synchronized String getBaseUrl() {
+        if (server == null) {
+            throw new IllegalStateException("Stand-in server is not running");
+        }
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public StandInConfig getConfig() {
+        return config;
+    }
+
+    public StandInUserStore getUsers() {
+        return users;
+    }
+
+    public long getRequestCount() {
+        return requests.get();
+    }
+
+    public long getInjectedErrorCount() {
+        return injectedErrors.get();
+    }
+
+    // ==================== DISPATCH ====================
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        try {
+            String path = exchange.getRequestURI().getPath();
+            String route = routeOf(path);
+            if (route != null && !simulate(exchange, route)) {
+                return;
+            }
+
+            if ("/".equals(path)) {
+                redirect(exchange, "/signin");
+            } else if ("/signin".equals(path)) {
+                html(exchange, 200, page("signin.html", new HashMap<>()));
+            } else if ("/loader".equals(path)) {
+                html(exchange, 200, page("loader.html", new HashMap<>()));
+            } else if ("/app/dashboard".equals(path)) {
+                dashboard(exchange);
+            } else if ("/app/user-management/user".equals(path)) {
+                userList(exchange);
+            } else if ("/app/user-management/user/add".equals(path) || "/user/add".equals(path)) {
+                addUser(exchange);
+            } else if (path.startsWith("/api/")) {
+                api(exchange, path);
+            } else if (path.startsWith("/static/")) {
+                staticFile(exchange, path);
+            } else {
+                html(exchange, 404, "<h1>Not Found</h1>");
+            }
+        } catch (Exception e) {
+            System.out.println("✗ Stand-in server error: " + e.getMessage());
+            try {
+                json(exchange, 500, error("Stand-in server error: " + e.getMessage()));
+            } catch (IOException ignored) {
+                // Response already started
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static String routeOf(String path) {
+        if (path.equals("/signin")) {
+            return "signin";
+        } else if (path.equals("/loader")) {
+            return "loader";
+        } else if (path.equals("/app/dashboard")) {
+            return "dashboard";
+        } else if (path.equals("/app/user-management/user")) {
+            return "users";
+        } else if (path.equals("/app/user-management/user/add") || path.equals("/user/add")) {
+            return "addUser";
+        } else if (path.startsWith("/api/auth/")) {
+            return "api.login";
+        } else if (path.startsWith("/api/users")) {
+            return "api.users";
+        } else if (path.startsWith("/api/")) {
+            return "api";
+        } else if (path.startsWith("/static/")) {
+            return "static";
+        }
+        return null;
+    }
+
+    /**
+     * Apply the route's latency and maybe answer with an injected error
+     * @return false if an error response was sent
+     */
+    private boolean simulate(HttpExchange exchange, String route) throws IOException {
+        RouteSettings settings = config.settingsFor(route);
+        long delay = settings.getLatencyMs();
+        boolean fail;
+        synchronized (random) {
+            if (settings.getJitterMs() > 0) {
+                delay += (long) (random.nextDouble() * settings.getJitterMs());
+            }
+            fail = settings.getErrorRate() > 0 && random.nextDouble() < settings.getErrorRate();
+        }
+        if (delay > 0) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (fail) {
+            injectedErrors.incrementAndGet();
+            if (route.startsWith("api")) {
+                json(exchange, 500, error("Injected failure"));
+            } else {
+                html(exchange, 500, "<h1>Internal Server Error</h1>");
+            }
+            return false;
+        }
+        return true;
+    }
+
+    // ==================== PAGES ====================
+
+    private void dashboard(HttpExchange exchange) throws IOException {
+        StandInUser user = authenticated(exchange);
+        if (user == null) {
+            redirect(exchange, "/signin");
+            return;
+        }
+        Map<String, String> values = new HashMap<>();
+        values.put("displayName", escape(user.getFirstName() + " " + user.getLastName()));
+        values.put("roleName", escape(user.getRole()));
+        html(exchange, 200, page("dashboard.html", values));
+    }
+
+    private void userList(HttpExchange exchange) throws IOException {
+        if (authenticated(exchange) == null) {
+            redirect(exchange, "/signin");
+            return;
+        }
+        Map<String, String> query = query(exchange);
+        String group = query.getOrDefault("group", UserManagementTestData.VALID_GROUP);
+        String estate = query.getOrDefault("estate", UserManagementTestData.VALID_ESTATE);
+        int size = config.getPageSize();
+        List<StandInUser> matches = users.find(query.get("search"), group, estate);
+        int lastPage = Math.max(0, (matches.size() - 1) / size);
+        int page = Math.max(0, Math.min(lastPage, parseInt(query.get("page"), 0)));
+
+        StringBuilder rows = new StringBuilder();
+        for (StandInUser user : matches.subList(Math.min(matches.size(), page * size), Math.min(matches.size(), (page + 1) * size))) {
+            rows.append("<tr class=\"MuiTableRow-root\">");
+            for (String value : Arrays.asList(user.getUsername(), user.getRole(), user.getFirstName(), user.getLastName(), user.getStatus())) {
+                rows.append("<td class=\"MuiTableCell-root MuiTableCell-body\">").append(escape(value)).append("</td>");
+            }
+            String name = escape(user.getUsername());
+            rows.append("<td class=\"MuiTableCell-root MuiTableCell-body\">")
+                    .append("<button type=\"button\" class=\"MuiIconButton-root edit\" title=\"Edit\" data-user=\"").append(name).append("\">✎</button>")
+                    .append("<button type=\"button\" class=\"MuiIconButton-root delete\" title=\"Delete\" data-user=\"").append(name).append("\">🗑</button>")
+                    .append("</td></tr>");
+        }
+
+        Map<String, Object> table = new LinkedHashMap<>();
+        table.put("group", group);
+        table.put("estate", estate);
+        table.put("page", page);
+        table.put("size", size);
+        table.put("total", matches.size());
+
+        int from = matches.isEmpty() ? 0 : page * size + 1;
+        int to = Math.min(matches.size(), (page + 1) * size);
+        Map<String, String> values = new HashMap<>();
+        values.put("group", escape(group));
+        values.put("estate", escape(estate));
+        values.put("rows", rows.toString());
+        values.put("pageSize", String.valueOf(size));
+        values.put("caption", from + "-" + to + " of " + matches.size());
+        values.put("prevDisabled", page <= 0 ? " disabled" : "");
+        values.put("nextDisabled", page >= lastPage ? " disabled" : "");
+        values.put("options", scriptJson(options()));
+        values.put("table", scriptJson(table));
+        html(exchange, 200, page("user-list.html", values));
+    }
+
+    private void addUser(HttpExchange exchange) throws IOException {
+        if (authenticated(exchange) == null) {
+            redirect(exchange, "/signin");
+            return;
+        }
+        StandInUser edit = users.get(query(exchange).getOrDefault("username", ""));
+        Map<String, String> values = new HashMap<>();
+        values.put("options", scriptJson(options()));
+        values.put("editUser", edit == null ? "null" : scriptJson(edit.toJson()));
+        html(exchange, 200, page("add-user.html", values));
+    }
+
+    private static Map<String, Object> options() {
+        Map<String, Object> options = new LinkedHashMap<>();
+        options.put("groups", UserManagementTestData.AVAILABLE_GROUPS);
+        options.put("estates", UserManagementTestData.AVAILABLE_ESTATES);
+        options.put("roles", UserManagementTestData.AVAILABLE_ROLES);
+        return options;
+    }
+
+    // ==================== API ====================
+
+    private void api(HttpExchange exchange, String path) throws IOException {
+        String method = exchange.getRequestMethod();
+        if ("/api/auth/login".equals(path) && "POST".equals(method)) {
+            login(exchange);
+            return;
+        }
+        if ("/api/auth/logout".equals(path) && "POST".equals(method)) {
+            String token = token(exchange);
+            if (token != null) {
+                sessions.remove(token);
+            }
+            exchange.getResponseHeaders().add("Set-Cookie", SESSION_COOKIE + "=; Path=/; Max-Age=0");
+            json(exchange, 204, null);
+            return;
+        }
+        if (authenticated(exchange) == null) {
+            json(exchange, 401, error("Not authenticated"));
+            return;
+        }
+
+        if ("/api/users".equals(path)) {
+            if ("GET".equals(method)) {
+                listUsers(exchange);
+            } else if ("POST".equals(method)) {
+                saveUser(exchange, null);
+            } else {
+                json(exchange, 405, error("Method not allowed"));
+            }
+        } else if (path.startsWith("/api/users/")) {
+            String username = URLDecoder.decode(path.substring("/api/users/".length()), StandardCharsets.UTF_8);
+            if ("GET".equals(method)) {
+                StandInUser user = users.get(username);
+                json(exchange, user == null ? 404 : 200, user == null ? error("User not found") : user.toJson());
+            } else if ("PUT".equals(method)) {
+                saveUser(exchange, username);
+            } else if ("DELETE".equals(method)) {
+                boolean deleted = users.delete(username);
+                json(exchange, deleted ? 204 : 404, deleted ? null : error("User not found"));
+            } else {
+                json(exchange, 405, error("Method not allowed"));
+            }
+        } else {
+            json(exchange, 404, error("Not found"));
+        }
+    }
+
+    private void login(HttpExchange exchange) throws IOException {
+        Map<String, Object> body = body(exchange);
+        String username = String.valueOf(body.getOrDefault("username", ""));
+        String password = String.valueOf(body.getOrDefault("password", ""));
+        StandInUser user = users.get(username);
+        if (user == null || user.isLocked() || !user.getPassword().equals(password)) {
+            json(exchange, 401, error("Invalid username or password"));
+            return;
+        }
+        String token = UUID.randomUUID().toString();
+        sessions.put(token, username);
+        exchange.getResponseHeaders().add("Set-Cookie", SESSION_COOKIE + "=" + token + "; Path=/; HttpOnly");
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("token", token);
+        response.put("user", user.toJson());
+        json(exchange, 200, response);
+    }
+
+    private void listUsers(HttpExchange exchange) throws IOException {
+        Map<String, String> query = query(exchange);
+        int size = Math.max(1, parseInt(query.get("size"), config.getPageSize()));
+        List<StandInUser> matches = users.find(query.get("search"), query.get("group"), query.get("estate"));
+        int lastPage = Math.max(0, (matches.size() - 1) / size);
+        int page = Math.max(0, Math.min(lastPage, parseInt(query.get("page"), 0)));
+
+        Object[] rows = matches.subList(Math.min(matches.size(), page * size), Math.min(matches.size(), (page + 1) * size))
+                .stream().map(StandInUser::toJson).toArray();
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("total", matches.size());
+        response.put("page", page);
+        response.put("size", size);
+        response.put("rows", rows);
+        json(exchange, 200, response);
+    }
+
+    private void saveUser(HttpExchange exchange, String existingUsername) throws IOException {
+        Map<String, Object> body = body(exchange);
+        StandInUser existing = existingUsername == null ? null : users.get(existingUsername);
+        if (existingUsername != null && existing == null) {
+            json(exchange, 404, error("User not found"));
+            return;
+        }
+
+        String username = existingUsername != null ? existingUsername : text(body, "username");
+        String password = text(body, "password");
+        if (existing != null && password.isEmpty()) {
+            password = existing.getPassword();
+        }
+        for (String field : new String[]{"firstName", "lastName", "role", "group", "estate"}) {
+            if (text(body, field).isEmpty()) {
+                json(exchange, 400, error(UserManagementTestData.ERROR_MESSAGE_REQUIRED_FIELD + ": " + field));
+                return;
+            }
+        }
+        if (username.isEmpty() || password.isEmpty()) {
+            json(exchange, 400, error(UserManagementTestData.ERROR_MESSAGE_REQUIRED_FIELD + ": "
+                    + (username.isEmpty() ? "username" : "password")));
+            return;
+        }
+
+        StandInUser user = new StandInUser(username, password, text(body, "firstName"), text(body, "lastName"),
+                text(body, "role"), text(body, "group"), text(body, "estate"),
+                !Boolean.FALSE.equals(body.get("active")), Boolean.TRUE.equals(body.get("locked")));
+        if (existing != null) {
+            users.update(user);
+            json(exchange, 200, user.toJson());
+        } else if (users.add(user)) {
+            json(exchange, 201, user.toJson());
+        } else {
+            json(exchange, 409, error(UserManagementTestData.ERROR_MESSAGE_USERNAME_EXISTS));
+        }
+    }
+
+    // ==================== STATIC FILES ====================
+
+    private void staticFile(HttpExchange exchange, String path) throws IOException {
+        exchange.getResponseHeaders().set("Cache-Control", "max-age=3600");
+        if (path.startsWith("/static/media/") && path.endsWith(".png")) {
+            send(exchange, 200, "image/png", PNG);
+        } else if ("/static/standin.js".equals(path)) {
+            send(exchange, 200, "application/javascript; charset=utf-8", template("standin.js").getBytes(StandardCharsets.UTF_8));
+        } else if ("/static/standin.css".equals(path)) {
+            send(exchange, 200, "text/css; charset=utf-8", template("standin.css").getBytes(StandardCharsets.UTF_8));
+        } else {
+            html(exchange, 404, "<h1>Not Found</h1>");
+        }
+    }
+
+    // ==================== HELPERS ====================
+
+    private StandInUser authenticated(HttpExchange exchange) {
+        String token = token(exchange);
+        String username = token == null ? null : sessions.get(token);
+        return username == null ? null : users.get(username);
+    }
+
+    private static String token(HttpExchange exchange) {
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        if (authorization != null && authorization.startsWith("Bearer ")) {
+            return authorization.substring("Bearer ".length()).trim();
+        }
+        List<String> cookies = exchange.getRequestHeaders().get("Cookie");
+        if (cookies == null) {
+            return null;
+        }
+        for (String header : cookies) {
+            for (String cookie : header.split(";")) {
+                String[] pair = cookie.trim().split("=", 2);
+                if (pair.length == 2 && SESSION_COOKIE.equals(pair[0])) {
+                    return pair[1];
+                }
+            }
+        }
+        return null;
+    }
+
+    private String page(String name, Map<String, String> values) {
+        Map<String, String> all = new HashMap<>(values);
+        all.put("sidebar", template("sidebar.html").trim());
+        String html = template(name);
+        for (Map.Entry<String, String> e : all.entrySet()) {
+            html = html.replace("{{" + e.getKey() + "}}", e.getValue());
+        }
+        return html;
+    }
+
+    private String template(String name) {
+        return templates.computeIfAbsent(name, n -> {
+            try (InputStream in = StandInServer.class.getResourceAsStream("/standin/" + n)) {
+                if (in == null) {
+                    throw new IllegalStateException("Missing stand-in template: " + n);
+                }
+                return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> body(HttpExchange exchange) throws IOException {
+        String text = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        if (text.trim().isEmpty()) {
+            return new HashMap<>();
+        }
+        Object parsed = JSON.toType(text, Object.class);
+        return parsed instanceof Map ? (Map<String, Object>) parsed : new HashMap<>();
+    }
+
+    private static Map<String, String> query(HttpExchange exchange) {
+        Map<String, String> query = new HashMap<>();
+        String raw = exchange.getRequestURI().getRawQuery();
+        if (raw == null) {
+            return query;
+        }
+        for (String pair : raw.split("&")) {
+            String[] kv = pair.split("=", 2);
+            if (!kv[0].isEmpty()) {
+                query.put(URLDecoder.decode(kv[0], StandardCharsets.UTF_8),
+                        kv.length > 1 ? URLDecoder.decode(kv[1], StandardCharsets.UTF_8) : "");
+            }
+        }
+        return query;
+    }
+
+    private static String text(Map<String, Object> body, String field) {
+        Object value = body.get(field);
+        return value == null ? "" : value.toString().trim();
+    }
+
+    private static int parseInt(String value, int fallback) {
+        try {
+            return value == null ? fallback : Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+
+    private static Map<String, Object> error(String message) {
+        Map<String, Object> error = new LinkedHashMap<>();
+        error.put("error", message);
+        return error;
+    }
+
+    private static void redirect(HttpExchange exchange, String location) throws IOException {
+        exchange.getResponseHeaders().set("Location", location);
+        exchange.sendResponseHeaders(302, -1);
+    }
+
+    private static void html(HttpExchange exchange, int status, String html) throws IOException {
+        exchange.getResponseHeaders().set("Cache-Control", "no-store");
+        send(exchange, status, "text/html; charset=utf-8", html.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void json(HttpExchange exchange, int status, Object body) throws IOException {
+        exchange.getResponseHeaders().set("Cache-Control", "no-store");
+        if (body == null) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        send(exchange, status, "application/json; charset=utf-8", JSON.toJson(body).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            exchange.getResponseBody().write(body);
+        }
+    }
+
+    // JSON embedded in a <script> block must not be able to close it
+    private static String scriptJson(Object value) {
+        return JSON.toJson(value).replace("</", "<\\/");
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;")
+                .replace("\"", "&quot;").replace("'", "&#39;");
+    }
+
+    private static byte[] placeholderPng() {
+        try {
+            BufferedImage image = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+            image.setRGB(0, 0, 0xFF2E7D32);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ImageIO.write(image, "png", out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Run the stand-in on its own, e.g. for manual or performance experiments
+     *   -Dstandin.port=5090 -Dstandin.users=500 -Dstandin.api.users.latencyMs=300
+     */
+    public static void main(String[] args) throws InterruptedException {
+        StandInServer server = new StandInServer(StandInConfig.fromSystemProperties());
+        server.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(server::stop));
+        Thread.currentThread().join();
+    }
+}
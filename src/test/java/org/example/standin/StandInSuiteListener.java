@@ -0,0 +1,50 @@
+package org.example.standin;
+
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/**
+ * Runs the suite against the local stand-in server instead of the QA server
+ * Starts the server before any test and points -Dbase.url at it, so it must
+ * run before LoginTestData is first used (TestNG calls suite listeners first).
+ *   -Dstandin=true     enable (or mvn test -Pstandin); see StandInConfig for tuning
+ */
+public class StandInSuiteListener implements ISuiteListener {
+
+    private static volatile StandInServer server;
+
+    /**
+     * Check if the suite runs against the stand-in server
+     * @return true if -Dstandin=true
+     */
+    public static boolean isEnabled() {
+        return Boolean.getBoolean("standin");
+    }
+
+    /**
+     * Server of the current run, e.g. to inspect or seed its user table
+     * @return Running server, or null if the stand-in is not enabled
+     */
+    public static StandInServer getServer() {
+        return server;
+    }
+
+    @Override
+    public synchronized void onStart(ISuite suite) {
+        if (!isEnabled() || server != null) {
+            return;
+        }
+        StandInServer started = new StandInServer(StandInConfig.fromSystemProperties());
+        started.start();
+        System.setProperty("base.url", started.getBaseUrl());
+        server = started;
+    }
+
+    @Override
+    public synchronized void onFinish(ISuite suite) {
+        if (server != null) {
+            server.stop();
+            server = null;
+        }
+    }
+}
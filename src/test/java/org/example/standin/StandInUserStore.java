@@ -0,0 +1,193 @@
+package org.example.standin;
+
+import org.example.testdata.LoginTestData;
+import org.example.testdata.UserManagementTestData;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * In-memory user table of the stand-in server
+ * Seeded with the existing test user (dinethra) plus generated users, spread
+ * over the groups and estates from UserManagementTestData. Generation is
+ * seeded, so the same configuration always yields the same table.
+ */
+public class StandInUserStore {
+
+    private static final String[] FIRST_NAMES = {"Amal", "Nimal", "Kasun", "Sahan", "Ishara", "Dilani", "Tharushi", "Ruwan"};
+    private static final String[] LAST_NAMES = {"Perera", "Silva", "Fernando", "Jayasinghe", "Bandara", "Wijesinghe"};
+
+    // Insertion-ordered: the table lists users in the order they were added
+    private final Map<String, StandInUser> users = new LinkedHashMap<>();
+
+    public StandInUserStore(int userCount, long seed) {
+        Random random = new Random(seed);
+        add(new StandInUser(LoginTestData.VALID_USERNAME, LoginTestData.VALID_PASSWORD,
+                UserManagementTestData.EXISTING_FIRST_NAME, UserManagementTestData.EXISTING_LAST_NAME,
+                UserManagementTestData.EXISTING_ROLE_NAME, UserManagementTestData.VALID_GROUP,
+                UserManagementTestData.VALID_ESTATE, true, false));
+
+        String[] groups = UserManagementTestData.AVAILABLE_GROUPS;
+        String[] estates = UserManagementTestData.AVAILABLE_ESTATES;
+        String[] roles = UserManagementTestData.AVAILABLE_ROLES;
+        for (int i = 1; i < userCount; i++) {
+            String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            String username = String.format(Locale.ROOT, "%s%03d", first.toLowerCase(Locale.ROOT), i);
+            add(new StandInUser(username, "Test@123", first, last, roles[random.nextInt(roles.length)],
+                    groups[i % groups.length], estates[i % estates.length], random.nextInt(5) > 0, false));
+        }
+    }
+
+    /**
+     * Add a user
+     * @param user User to add
+     * @return false if the username is taken
+     */
+    public synchronized boolean add(StandInUser user) {
+        return users.putIfAbsent(user.getUsername(), user) == null;
+    }
+
+    /**
+     * Replace an existing user, keeping its place in the table
+     * @param user New values; the username identifies the user
+     * @return false if there is no such user
+     */
+    public synchronized boolean update(StandInUser user) {
+        return users.replace(user.getUsername(), user) != null;
+    }
+
+    public synchronized StandInUser get(String username) {
+        return users.get(username);
+    }
+
+    public synchronized boolean delete(String username) {
+        return users.remove(username) != null;
+    }
+
+    public synchronized int size() {
+        return users.size();
+    }
+
+    /**
+     * Users matching the filters, in table order
+     * @param search Case-insensitive text matched against username, names and role (null = any)
+     * @param group Exact group (null = any)
+     * @param estate Exact estate (null = any)
+     * @return Matching users
+     */
+    public synchronized List<StandInUser> find(String search, String group, String estate) {
+        String needle = search == null ? "" : search.trim().toLowerCase(Locale.ROOT);
+        List<StandInUser> result = new ArrayList<>();
+        for (StandInUser user : users.values()) {
+            if (group != null && !group.isEmpty() && !group.equals(user.getGroup())) {
+                continue;
+            }
+            if (estate != null && !estate.isEmpty() && !estate.equals(user.getEstate())) {
+                continue;
+            }
+            if (!needle.isEmpty() && !user.matches(needle)) {
+                continue;
+            }
+            result.add(user);
+        }
+        return result;
+    }
+
+    /**
+     * One row of the user table
+     */
+    public static final class StandInUser {
+        private final String username;
+        private final String password;
+        private final String firstName;
+        private final String lastName;
+        private final String role;
+        private final String group;
+        private final String estate;
+        private final boolean active;
+        private final boolean locked;
+
+        public StandInUser(String username, String password, String firstName, String lastName, String role,
+                           String group, String estate, boolean active, boolean locked) {
+            this.username = username;
+            this.password = password;
+            this.firstName = firstName;
+            this.lastName = lastName;
+            this.role = role;
+            this.group = group;
+            this.estate = estate;
+            this.active = active;
+            this.locked = locked;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public String getFirstName() {
+            return firstName;
+        }
+
+        public String getLastName() {
+            return lastName;
+        }
+
+        public String getRole() {
+            return role;
+        }
+
+        public String getGroup() {
+            return group;
+        }
+
+        public String getEstate() {
+            return estate;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public boolean isLocked() {
+            return locked;
+        }
+
+        public String getStatus() {
+            return active ? "Active" : "Inactive";
+        }
+
+        /**
+         * JSON shape used by the stand-in API (no password)
+         * @return Field name -> value
+         */
+        public Map<String, Object> toJson() {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("username", username);
+            json.put("firstName", firstName);
+            json.put("lastName", lastName);
+            json.put("role", role);
+            json.put("group", group);
+            json.put("estate", estate);
+            json.put("status", getStatus());
+            json.put("active", active);
+            json.put("locked", locked);
+            return json;
+        }
+
+        private boolean matches(String needle) {
+            return username.toLowerCase(Locale.ROOT).contains(needle)
+                    || firstName.toLowerCase(Locale.ROOT).contains(needle)
+                    || lastName.toLowerCase(Locale.ROOT).contains(needle)
+                    || role.toLowerCase(Locale.ROOT).contains(needle);
+        }
+    }
+}
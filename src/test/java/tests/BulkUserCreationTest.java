@@ -0,0 +1,201 @@
+package tests;
+
+import org.example.base.BaseTest;
+import org.example.base.StorageState;
+import org.example.pages.AddUserPage;
+import org.example.pages.DashboardPage;
+import org.example.pages.UserManagementPage;
+import org.example.testdata.LoginTestData;
+import org.example.testdata.UserRecord;
+import org.example.testdata.UserRecordReader;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.testng.Assert;
+import org.testng.ITestContext;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bulk user creation for onboarding rehearsals
+ * Users are streamed from a CSV or JSON file (see UserRecordReader) and
+ * created through the Add User form. The data provider hands out one worker
+ * per data provider thread, not the records: TestNG materializes every row of
+ * a parallel data provider before it starts any of them. Each worker has its
+ * own browser session and pulls the next record from the shared reader until
+ * the file is used up, so only the records in flight are held in memory.
+ * Run it with the bulk profile, which uses testng-bulk.xml and pooled sessions:
+ *
+ *   mvn test -Pbulk [-Dbulk.users=FILE] [-Ddataprovider.threads=N] [-Dbulk.verify=false]
+ *
+ *   -Ddataprovider.threads=N   parallel workers, one browser each (default: from the suite file)
+ *   -Dbulk.users=FILE          CSV or JSON user file (default: src/test/resources/testdata/bulk-users.csv)
+ *   -Dbulk.run=ID              replaces "{run}" in user names (default: current time, base 36)
+ *   -Dbulk.verify=false        skip searching the user list for each created user
+ *
+ * Users created per minute and the failed users are printed at the end and
+ * written to target/bulk-users/report-<run>.txt
+ */
+public class BulkUserCreationTest extends BaseTest {
+
+    private static final String DEFAULT_USER_FILE = "src/test/resources/testdata/bulk-users.csv";
+    private static final String RUN_ID = System.getProperty("bulk.run",
+            Long.toString(System.currentTimeMillis(), 36));
+
+    private final AtomicInteger created = new AtomicInteger();
+    private final Queue<String> failures = new ConcurrentLinkedQueue<>();
+    private volatile long startedAt;
+    private volatile UserRecordReader reader;
+
+    @DataProvider(name = "bulkWorkers", parallel = true)
+    public Object[][] bulkWorkers(ITestContext context) {
+        Path file = Paths.get(System.getProperty("bulk.users", DEFAULT_USER_FILE));
+        int workers = Math.max(1, context.getSuite().getXmlSuite().getDataProviderThreadCount());
+        System.out.println("\n▶ Creating users from " + file + " (run " + RUN_ID + ") with " + workers + " workers");
+        reader = new UserRecordReader(file, RUN_ID);
+        startedAt = System.nanoTime();
+
+        Object[][] rows = new Object[workers][];
+        for (int i = 0; i < workers; i++) {
+            rows[i] = new Object[]{i + 1};
+        }
+        return rows;
+    }
+
+    /**
+     * Take the next record from the shared reader, closing the file at the end
+     * @return Next user, or null when the file is used up
+     */
+    private UserRecord nextUser() {
+        synchronized (reader) {
+            if (reader.hasNext()) {
+                return reader.next();
+            }
+            reader.close();
+            return null;
+        }
+    }
+
+    @BeforeMethod
+    public void loginAndNavigateToUserManagement() {
+        // Saved login state makes this cheap on pooled sessions
+        boolean loginSuccess = StorageState.loginWithState(
+                getDriver(),
+                LoginTestData.VALID_USERNAME,
+                LoginTestData.VALID_PASSWORD
+        );
+        Assert.assertTrue(loginSuccess, "Login should be successful");
+
+        page(DashboardPage.class).clickUserManagement();
+        page(UserManagementPage.class).waitForPageLoad();
+    }
+
+    @Test(dataProvider = "bulkWorkers", description = "Create users from the bulk user file")
+    public void testCreateUsers(int worker) {
+        List<String> workerFailures = new ArrayList<>();
+        UserRecord user;
+        while ((user = nextUser()) != null) {
+            try {
+                createUser(user);
+            } catch (AssertionError | RuntimeException e) {
+                String failure = user.getUserName() + ": " + e.getMessage();
+                failures.add(failure);
+                workerFailures.add(failure);
+                System.out.println("✗ Worker " + worker + " failed to create " + failure);
+                backToUserManagement();
+            }
+        }
+        Assert.assertTrue(workerFailures.isEmpty(),
+                "Worker " + worker + " could not create " + workerFailures.size() + " user(s): " + workerFailures);
+    }
+
+    private void createUser(UserRecord user) {
+        System.out.println("\n▶ Bulk create: " + user);
+        UserManagementPage userManagementPage = page(UserManagementPage.class);
+        userManagementPage.clickAddUser();
+
+        AddUserPage addUserPage = page(AddUserPage.class);
+        addUserPage.waitForPageLoad();
+        addUserPage.fillUserForm(user.getGroup(), user.getEstate(), user.getFirstName(), user.getLastName(),
+                user.getUserName(), user.getPassword(), user.getPassword(), user.getRole(),
+                user.isActive(), user.isLocked());
+        addUserPage.clickSave();
+
+        Assert.assertTrue(addUserPage.isSuccessMessageDisplayed(),
+                "User " + user.getUserName() + " should be added");
+
+        // The form returns to the user list after saving
+        getWait().until(ExpectedConditions.not(ExpectedConditions.urlContains("/add")));
+        userManagementPage.waitForPageLoad();
+        if (!"false".equalsIgnoreCase(System.getProperty("bulk.verify"))) {
+            userManagementPage.searchUser(user.getUserName());
+            Assert.assertTrue(userManagementPage.isUserPresent(user.getUserName()),
+                    "User " + user.getUserName() + " should be listed after saving");
+        }
+
+        created.incrementAndGet();
+        System.out.println("✓ Created user: " + user.getUserName());
+    }
+
+    /**
+     * Bring a worker back to the user list after a failed user, e.g. from a half-filled form
+     */
+    private void backToUserManagement() {
+        try {
+            getDriver().get(LoginTestData.BASE_URL + LoginTestData.DASHBOARD_URL);
+            page(DashboardPage.class).clickUserManagement();
+            page(UserManagementPage.class).waitForPageLoad();
+        } catch (RuntimeException e) {
+            System.out.println("⚠ Could not return to User Management: " + e.getMessage());
+        }
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void reportThroughput() {
+        if (startedAt == 0) {
+            return;
+        }
+        double minutes = (System.nanoTime() - startedAt) / 60_000_000_000.0;
+        int skipped = 0;
+        if (reader != null) {
+            synchronized (reader) {
+                skipped = reader.getSkipped();
+                reader.close();
+            }
+        }
+
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format(Locale.ROOT, "Bulk run %s: %d created, %d failed, %d unreadable records in %.1f min",
+                RUN_ID, created.get(), failures.size(), skipped, minutes));
+        lines.add(String.format(Locale.ROOT, "Throughput: %.1f users/minute",
+                minutes > 0 ? created.get() / minutes : 0.0));
+        if (!failures.isEmpty()) {
+            lines.add("");
+            lines.add("Failed users:");
+            for (String failure : failures) {
+                lines.add("  " + failure);
+            }
+        }
+
+        System.out.println((failures.isEmpty() ? "✓ " : "✗ ") + String.join("\n", lines));
+        Path report = Paths.get(System.getProperty("user.dir"), "target", "bulk-users", "report-" + RUN_ID + ".txt");
+        try {
+            Files.createDirectories(report.getParent());
+            Files.write(report, lines, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            System.out.println("✗ Failed to write bulk report: " + e.getMessage());
+        }
+    }
+}
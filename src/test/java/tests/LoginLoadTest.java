@@ -0,0 +1,47 @@
+package tests;
+
+import org.example.base.LoginLoadRunner;
+import org.example.testdata.LoginTestData;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+
+/**
+ * Concurrent login load through the same LoginPage used by the functional tests
+ * Runs in its own suite so the functional run is not slowed down:
+ *
+ *   mvn test -Pload [-Dload.users=N -Dload.rampUpSeconds=N -Dload.durationSeconds=N]
+ *
+ * See LoginLoadRunner for all load.* settings. Optional thresholds:
+ *   -Dload.maxP95Ms=N          fail if the p95 login-to-dashboard latency is above N ms
+ *   -Dload.maxErrorPercent=N   fail if more than N% of the logins failed (default: 0)
+ */
+public class LoginLoadTest {
+
+    @Test(description = "Concurrent virtual users log in and reach the dashboard")
+    public void testConcurrentLogins() {
+        LoginLoadRunner.Result result = LoginLoadRunner.fromSystemProperties()
+                .run(LoginTestData.VALID_USERNAME, LoginTestData.VALID_PASSWORD);
+
+        System.out.println(result.describe());
+        Path report = result.write();
+        if (report != null) {
+            System.out.println("✓ Load report: " + report);
+        }
+
+        Assert.assertTrue(result.getSuccessfulLogins() > 0, "At least one login should reach the dashboard");
+
+        int attempts = result.getSuccessfulLogins() + result.getFailedLogins();
+        double errorPercent = 100.0 * result.getFailedLogins() / attempts;
+        double maxErrorPercent = Double.parseDouble(System.getProperty("load.maxErrorPercent", "0"));
+        Assert.assertTrue(errorPercent <= maxErrorPercent,
+                String.format("%.1f%% of logins failed, allowed %.1f%%", errorPercent, maxErrorPercent));
+
+        Long maxP95 = Long.getLong("load.maxP95Ms");
+        if (maxP95 != null) {
+            Assert.assertTrue(result.getPercentileMillis(95) <= maxP95,
+                    "p95 login latency " + result.getPercentileMillis(95) + " ms exceeds " + maxP95 + " ms");
+        }
+    }
+}
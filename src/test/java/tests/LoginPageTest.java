@@ -22,10 +22,11 @@ public class LoginPageTest extends BaseTest {
 
     @Test(priority = 1, description = "Verify successful login with valid credentials")
     public void testValidLogin() {
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = new LoginPage(getDriver());
 
         System.out.println("\n▶ Test 1: Valid Login Test");
         System.out.println("Credentials: " + LoginTestData.VALID_USERNAME);
+        captureDomSnapshot("signin");
 
         loginPage.enterUsername(LoginTestData.VALID_USERNAME);
         loginPage.enterPassword(LoginTestData.VALID_PASSWORD);
@@ -38,14 +39,15 @@ public class LoginPageTest extends BaseTest {
         loginPage.waitForLoaderToDisappear(15);
 
         // Verify navigation to dashboard
-        String currentUrl = driver.getCurrentUrl();
+        String currentUrl = getDriver().getCurrentUrl();
         Assert.assertTrue(currentUrl.contains(LoginTestData.DASHBOARD_URL),
                 LoginTestData.ASSERT_DASHBOARD_URL + currentUrl);
 
         takeScreenshot(LoginTestData.SCREENSHOT_VALID_LOGIN_AFTER);
+        captureDomSnapshot("dashboard");
 
         // Additional verification - check dashboard elements
-        DashboardPage dashboardPage = new DashboardPage(driver);
+        DashboardPage dashboardPage = new DashboardPage(getDriver());
         Assert.assertTrue(dashboardPage.isLogoDisplayed(), "AgriGEN logo should be visible");
 
         System.out.println(LoginTestData.VALID_LOGIN_SUCCESS_MSG);
@@ -55,7 +57,7 @@ public class LoginPageTest extends BaseTest {
 
     @Test(priority = 2, description = "Verify login fails with invalid username")
     public void testInvalidUsername() {
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = new LoginPage(getDriver());
 
         System.out.println("\n▶ Test 2: Invalid Username Test");
         System.out.println("Using invalid username: " + LoginTestData.INVALID_USERNAME);
@@ -66,8 +68,8 @@ public class LoginPageTest extends BaseTest {
 
         loginPage.clickLogin();
 
-        // Wait for error message to appear
-        waitFor(LoginTestData.MEDIUM_WAIT);
+        // Wait for the response to the sign-in request
+        waitForUi();
 
         // Verify error message is displayed
         Assert.assertTrue(loginPage.isErrorMessageDisplayed(),
@@ -88,7 +90,7 @@ public class LoginPageTest extends BaseTest {
 
     @Test(priority = 3, description = "Verify login fails with invalid password")
     public void testInvalidPassword() {
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = new LoginPage(getDriver());
 
         System.out.println("\n▶ Test 3: Invalid Password Test");
 
@@ -97,7 +99,7 @@ public class LoginPageTest extends BaseTest {
         takeScreenshot(LoginTestData.SCREENSHOT_INVALID_PASSWORD_BEFORE);
 
         loginPage.clickLogin();
-        waitFor(LoginTestData.MEDIUM_WAIT);
+        waitForUi();
 
         Assert.assertTrue(loginPage.isErrorMessageDisplayed(),
                 LoginTestData.ASSERT_ERROR_MESSAGE);
@@ -110,14 +112,14 @@ public class LoginPageTest extends BaseTest {
 
     @Test(priority = 4, description = "Verify login fails with both fields empty")
     public void testEmptyCredentials() {
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = new LoginPage(getDriver());
 
         System.out.println("\n▶ Test 4: Empty Credentials Test");
 
         takeScreenshot(LoginTestData.SCREENSHOT_EMPTY_FIELDS_BEFORE);
         loginPage.clickLogin();
 
-        waitFor(LoginTestData.SHORT_WAIT);
+        waitForUi();
 
         // Should remain on login page
         Assert.assertTrue(loginPage.isOnLoginPage(),
@@ -129,7 +131,7 @@ public class LoginPageTest extends BaseTest {
 
     @Test(priority = 5, description = "Verify login fails with empty username")
     public void testEmptyUsername() {
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = new LoginPage(getDriver());
 
         System.out.println("\n▶ Test 5: Empty Username Test");
 
@@ -138,7 +140,7 @@ public class LoginPageTest extends BaseTest {
         takeScreenshot(LoginTestData.SCREENSHOT_EMPTY_USERNAME_BEFORE);
 
         loginPage.clickLogin();
-        waitFor(LoginTestData.SHORT_WAIT);
+        waitForUi();
 
         Assert.assertTrue(loginPage.isOnLoginPage(),
                 LoginTestData.ASSERT_LOGIN_PAGE);
@@ -149,7 +151,7 @@ public class LoginPageTest extends BaseTest {
 
     @Test(priority = 6, description = "Verify login fails with empty password")
     public void testEmptyPassword() {
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = new LoginPage(getDriver());
 
         System.out.println("\n▶ Test 6: Empty Password Test");
 
@@ -158,7 +160,7 @@ public class LoginPageTest extends BaseTest {
         takeScreenshot(LoginTestData.SCREENSHOT_EMPTY_PASSWORD_BEFORE);
 
         loginPage.clickLogin();
-        waitFor(LoginTestData.SHORT_WAIT);
+        waitForUi();
 
         Assert.assertTrue(loginPage.isOnLoginPage(),
                 LoginTestData.ASSERT_LOGIN_PAGE);
@@ -171,7 +173,7 @@ public class LoginPageTest extends BaseTest {
 
     @Test(priority = 7, description = "Verify SQL injection prevention")
     public void testSQLInjection() {
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = new LoginPage(getDriver());
 
         System.out.println("\n▶ Test 7: SQL Injection Prevention Test");
         System.out.println("Attempting SQL injection: " + LoginTestData.SQL_INJECTION_USERNAME);
@@ -181,7 +183,7 @@ public class LoginPageTest extends BaseTest {
         takeScreenshot(LoginTestData.SCREENSHOT_SQL_INJECTION_BEFORE);
 
         loginPage.clickLogin();
-        waitFor(LoginTestData.MEDIUM_WAIT);
+        waitForUi();
 
         // Should not reach dashboard
         Assert.assertTrue(loginPage.isOnLoginPage(),
@@ -193,7 +195,7 @@ public class LoginPageTest extends BaseTest {
 
     @Test(priority = 8, description = "Verify XSS attack prevention")
     public void testXSSAttack() {
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = new LoginPage(getDriver());
 
         System.out.println("\n▶ Test 8: XSS Attack Prevention Test");
         System.out.println("Attempting XSS: " + LoginTestData.XSS_USERNAME);
@@ -203,7 +205,7 @@ public class LoginPageTest extends BaseTest {
         takeScreenshot(LoginTestData.SCREENSHOT_XSS_ATTACK_BEFORE);
 
         loginPage.clickLogin();
-        waitFor(LoginTestData.MEDIUM_WAIT);
+        waitForUi();
 
         Assert.assertTrue(loginPage.isOnLoginPage(),
                 LoginTestData.ASSERT_XSS_BLOCKED);
@@ -214,7 +216,7 @@ public class LoginPageTest extends BaseTest {
 
     @Test(priority = 9, description = "Verify special characters handling")
     public void testSpecialCharacters() {
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = new LoginPage(getDriver());
 
         System.out.println("\n▶ Test 9: Special Characters Test");
         System.out.println("Using special characters: " + LoginTestData.SPECIAL_CHARS_USERNAME);
@@ -224,7 +226,7 @@ public class LoginPageTest extends BaseTest {
         takeScreenshot(LoginTestData.SCREENSHOT_SPECIAL_CHARS_BEFORE);
 
         loginPage.clickLogin();
-        waitFor(LoginTestData.MEDIUM_WAIT);
+        waitForUi();
 
         Assert.assertTrue(loginPage.isOnLoginPage(),
                 LoginTestData.ASSERT_LOGIN_PAGE);
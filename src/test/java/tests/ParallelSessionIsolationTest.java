@@ -0,0 +1,64 @@
+package tests;
+
+import org.example.base.BaseTest;
+import org.example.base.DriverManager;
+import org.example.base.SessionPool;
+import org.example.pages.LoginPage;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Verifies that parallel test threads never share a browser session
+ * Runs the same test on several threads at once and checks that every
+ * invocation got its own driver, session and page objects
+ * With -Dsession.pool=true a session may be reused by a later test, but it
+ * must never be held by two threads at the same time
+ */
+public class ParallelSessionIsolationTest extends BaseTest {
+
+    private static final int INVOCATIONS = 4;
+
+    // Session id -> name of the thread that used it
+    private final Map<String, String> sessionOwners = new ConcurrentHashMap<>();
+    // Session id -> thread currently running a test on it
+    private final Map<String, String> sessionsInUse = new ConcurrentHashMap<>();
+
+    @Test(invocationCount = INVOCATIONS, threadPoolSize = INVOCATIONS,
+            description = "Verify each parallel thread gets its own WebDriver session")
+    public void testSessionIsNotShared() {
+        WebDriver driver = getDriver();
+        String threadName = Thread.currentThread().getName();
+        String sessionId = DriverManager.getSessionId(driver);
+
+        System.out.println("→ " + threadName + " uses session " + sessionId);
+
+        String concurrentOwner = sessionsInUse.putIfAbsent(sessionId, threadName);
+        Assert.assertNull(concurrentOwner, "Session " + sessionId + " is in use by " + concurrentOwner);
+        sessionOwners.put(sessionId, threadName);
+
+        try {
+            // The same thread must always see the same driver and page objects
+            Assert.assertSame(getDriver(), driver, "Driver changed within a single thread");
+            Assert.assertSame(page(LoginPage.class), page(LoginPage.class), "Page object not reused within a thread");
+            Assert.assertTrue(DriverManager.activeCount() <= INVOCATIONS, "More drivers active than threads");
+
+            Assert.assertTrue(page(LoginPage.class).isOnLoginPage(), "Each session should start on the login page");
+        } finally {
+            sessionsInUse.remove(sessionId);
+        }
+    }
+
+    @AfterClass
+    public void verifyAllSessionsDistinct() {
+        if (!SessionPool.isEnabled()) {
+            Assert.assertEquals(sessionOwners.size(), INVOCATIONS,
+                    "Each invocation should have used a distinct browser session");
+        }
+        System.out.println("✓ Test PASSED: " + sessionOwners.size() + " parallel sessions, none shared");
+    }
+}
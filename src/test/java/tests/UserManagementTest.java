@@ -1,11 +1,14 @@
 package tests;
 
 import org.example.base.BaseTest;
+import org.example.base.NetworkProfile;
+import org.example.base.StorageState;
 import org.example.pages.DashboardPage;
-import org.example.pages.LoginPage;
 import org.example.pages.UserManagementPage;
 import org.example.pages.AddUserPage;
+import org.example.pages.UserRow;
 import org.example.testdata.LoginTestData;
+import org.example.testdata.UserRecord;
 import org.example.testdata.UserManagementTestData;
 import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
@@ -17,18 +20,13 @@ import org.testng.annotations.Test;
  */
 public class UserManagementTest extends BaseTest {
 
-    private LoginPage loginPage;
-    private DashboardPage dashboardPage;
-    private UserManagementPage userManagementPage;
-    private AddUserPage addUserPage;
-
     @BeforeMethod
     public void loginAndNavigateToUserManagement() {
-        // Login to application
-        loginPage = new LoginPage(driver);
+        // Login to application (restores the saved login state when it is still valid)
         System.out.println("\n▶ Logging in to the application...");
 
-        boolean loginSuccess = loginPage.loginAndWaitForDashboard(
+        boolean loginSuccess = StorageState.loginWithState(
+                getDriver(),
                 LoginTestData.VALID_USERNAME,
                 LoginTestData.VALID_PASSWORD
         );
@@ -37,11 +35,9 @@ public class UserManagementTest extends BaseTest {
         System.out.println("✓ Login successful");
 
         // Navigate to User Management
-        dashboardPage = new DashboardPage(driver);
-        dashboardPage.clickUserManagement();
-        waitFor(UserManagementTestData.PAGE_LOAD_WAIT);
+        page(DashboardPage.class).clickUserManagement();
+        page(UserManagementPage.class).waitForPageLoad();
 
-        userManagementPage = new UserManagementPage(driver);
         System.out.println("✓ Navigated to User Management page");
     }
 
@@ -50,6 +46,7 @@ public class UserManagementTest extends BaseTest {
     @Test(priority = 1, description = "Verify User Management page loads correctly")
     public void testUserManagementPageLoad() {
         System.out.println("\n▶ Test 1: User Management Page Load Test");
+        UserManagementPage userManagementPage = page(UserManagementPage.class);
 
         // Verify page is displayed
         Assert.assertTrue(userManagementPage.isUserManagementPageDisplayed(),
@@ -69,12 +66,14 @@ public class UserManagementTest extends BaseTest {
                 UserManagementTestData.ASSERT_TABLE_HEADERS_VISIBLE);
 
         takeScreenshot(UserManagementTestData.SCREENSHOT_USER_LIST);
+        captureDomSnapshot("user-list");
         System.out.println(UserManagementTestData.TEST_PASS_USER_LIST_DISPLAYED);
     }
 
     @Test(priority = 2, description = "Verify existing user is displayed in the table")
     public void testExistingUserDisplayed() {
         System.out.println("\n▶ Test 2: Existing User Display Test");
+        UserManagementPage userManagementPage = page(UserManagementPage.class);
 
         userManagementPage.waitForPageLoad();
 
@@ -100,11 +99,11 @@ public class UserManagementTest extends BaseTest {
     @Test(priority = 3, description = "Navigate to Add User page")
     public void testNavigateToAddUserPage() {
         System.out.println("\n▶ Test 3: Navigate to Add User Page");
+        UserManagementPage userManagementPage = page(UserManagementPage.class);
 
         userManagementPage.clickAddUser();
-        waitFor(UserManagementTestData.PAGE_LOAD_WAIT);
 
-        addUserPage = new AddUserPage(driver);
+        AddUserPage addUserPage = page(AddUserPage.class);
         Assert.assertTrue(addUserPage.isAddUserPageDisplayed(),
                 UserManagementTestData.ASSERT_ADD_USER_PAGE_DISPLAYED);
 
@@ -115,11 +114,11 @@ public class UserManagementTest extends BaseTest {
     @Test(priority = 4, description = "Verify Add User form fields are present")
     public void testAddUserFormFields() {
         System.out.println("\n▶ Test 4: Add User Form Fields Test");
+        UserManagementPage userManagementPage = page(UserManagementPage.class);
 
         userManagementPage.clickAddUser();
-        waitFor(UserManagementTestData.PAGE_LOAD_WAIT);
 
-        addUserPage = new AddUserPage(driver);
+        AddUserPage addUserPage = page(AddUserPage.class);
         addUserPage.waitForPageLoad();
 
         // Verify page is displayed
@@ -131,17 +130,18 @@ public class UserManagementTest extends BaseTest {
                 "Save button should be present");
 
         takeScreenshot(UserManagementTestData.SCREENSHOT_ADD_USER_PAGE);
+        captureDomSnapshot("add-user");
         System.out.println("✓ Test PASSED: All form fields are present");
     }
 
     @Test(priority = 5, description = "Add new user with valid data")
     public void testAddNewUserWithValidData() {
         System.out.println("\n▶ Test 5: Add New User with Valid Data");
+        UserManagementPage userManagementPage = page(UserManagementPage.class);
 
         userManagementPage.clickAddUser();
-        waitFor(UserManagementTestData.PAGE_LOAD_WAIT);
 
-        addUserPage = new AddUserPage(driver);
+        AddUserPage addUserPage = page(AddUserPage.class);
         addUserPage.waitForPageLoad();
 
         // Fill the form
@@ -164,12 +164,11 @@ public class UserManagementTest extends BaseTest {
 
         // Click Save
         addUserPage.clickSave();
-        waitFor(UserManagementTestData.SAVE_OPERATION_WAIT);
 
         // Verify success (either success message or navigation back to user list)
         boolean successMessageDisplayed = addUserPage.isSuccessMessageDisplayed();
-        boolean navigatedBack = driver.getCurrentUrl().contains("user") &&
-                !driver.getCurrentUrl().contains("add");
+        boolean navigatedBack = getDriver().getCurrentUrl().contains("user") &&
+                !getDriver().getCurrentUrl().contains("add");
 
         Assert.assertTrue(successMessageDisplayed || navigatedBack,
                 "User should be added successfully");
@@ -181,16 +180,15 @@ public class UserManagementTest extends BaseTest {
     @Test(priority = 6, description = "Add user with empty required fields - validation test")
     public void testAddUserWithEmptyFields() {
         System.out.println("\n▶ Test 6: Add User with Empty Required Fields");
+        UserManagementPage userManagementPage = page(UserManagementPage.class);
 
         userManagementPage.clickAddUser();
-        waitFor(UserManagementTestData.PAGE_LOAD_WAIT);
 
-        addUserPage = new AddUserPage(driver);
+        AddUserPage addUserPage = page(AddUserPage.class);
         addUserPage.waitForPageLoad();
 
         // Try to save without filling any fields
         addUserPage.clickSave();
-        waitFor(UserManagementTestData.MEDIUM_WAIT);
 
         // Should show validation errors or remain on same page
         boolean stillOnAddPage = addUserPage.isAddUserPageDisplayed();
@@ -207,11 +205,11 @@ public class UserManagementTest extends BaseTest {
     @Test(priority = 7, description = "Add user with mismatched passwords - validation test")
     public void testAddUserWithMismatchedPasswords() {
         System.out.println("\n▶ Test 7: Add User with Mismatched Passwords");
+        UserManagementPage userManagementPage = page(UserManagementPage.class);
 
         userManagementPage.clickAddUser();
-        waitFor(UserManagementTestData.PAGE_LOAD_WAIT);
 
-        addUserPage = new AddUserPage(driver);
+        AddUserPage addUserPage = page(AddUserPage.class);
         addUserPage.waitForPageLoad();
 
         // Fill form with mismatched passwords
@@ -226,7 +224,6 @@ public class UserManagementTest extends BaseTest {
         takeScreenshot(UserManagementTestData.SCREENSHOT_PASSWORD_MISMATCH);
 
         addUserPage.clickSave();
-        waitFor(UserManagementTestData.MEDIUM_WAIT);
 
         // Should show error or remain on page
         boolean stillOnPage = addUserPage.isAddUserPageDisplayed();
@@ -242,6 +239,7 @@ public class UserManagementTest extends BaseTest {
     @Test(priority = 8, description = "Search for existing user")
     public void testSearchExistingUser() {
         System.out.println("\n▶ Test 8: Search Existing User");
+        UserManagementPage userManagementPage = page(UserManagementPage.class);
 
         userManagementPage.waitForPageLoad();
 
@@ -251,7 +249,6 @@ public class UserManagementTest extends BaseTest {
 
         // Search for existing user
         userManagementPage.searchUser(UserManagementTestData.SEARCH_EXISTING_USER);
-        waitFor(UserManagementTestData.MEDIUM_WAIT);
 
         // Verify user is found
         boolean userFound = userManagementPage.isUserPresent(
@@ -266,18 +263,17 @@ public class UserManagementTest extends BaseTest {
 
         // Clear search
         userManagementPage.clearSearch();
-        waitFor(UserManagementTestData.SHORT_WAIT);
     }
 
     @Test(priority = 9, description = "Search for non-existing user")
     public void testSearchNonExistingUser() {
         System.out.println("\n▶ Test 9: Search Non-Existing User");
+        UserManagementPage userManagementPage = page(UserManagementPage.class);
 
         userManagementPage.waitForPageLoad();
 
         // Search for non-existing user
         userManagementPage.searchUser(UserManagementTestData.SEARCH_NON_EXISTING);
-        waitFor(UserManagementTestData.MEDIUM_WAIT);
 
         // Verify no results or user not found
         int resultCount = userManagementPage.getUserCount();
@@ -299,12 +295,12 @@ public class UserManagementTest extends BaseTest {
     @Test(priority = 10, description = "Filter users by group")
     public void testFilterByGroup() {
         System.out.println("\n▶ Test 10: Filter by Group");
+        UserManagementPage userManagementPage = page(UserManagementPage.class);
 
         userManagementPage.waitForPageLoad();
 
         // Select group filter
         userManagementPage.selectGroup(UserManagementTestData.VALID_GROUP);
-        waitFor(UserManagementTestData.MEDIUM_WAIT);
 
         // Verify page updates (user count may change)
         int userCount = userManagementPage.getUserCount();
@@ -319,12 +315,12 @@ public class UserManagementTest extends BaseTest {
     @Test(priority = 11, description = "Filter users by estate")
     public void testFilterByEstate() {
         System.out.println("\n▶ Test 11: Filter by Estate");
+        UserManagementPage userManagementPage = page(UserManagementPage.class);
 
         userManagementPage.waitForPageLoad();
 
         // Select estate filter
         userManagementPage.selectEstate(UserManagementTestData.VALID_ESTATE);
-        waitFor(UserManagementTestData.MEDIUM_WAIT);
 
         // Verify page updates
         int userCount = userManagementPage.getUserCount();
@@ -341,21 +337,20 @@ public class UserManagementTest extends BaseTest {
     @Test(priority = 12, description = "Test back navigation from Add User page")
     public void testBackNavigationFromAddUser() {
         System.out.println("\n▶ Test 12: Back Navigation Test");
+        UserManagementPage userManagementPage = page(UserManagementPage.class);
 
         userManagementPage.clickAddUser();
-        waitFor(UserManagementTestData.PAGE_LOAD_WAIT);
 
-        addUserPage = new AddUserPage(driver);
+        AddUserPage addUserPage = page(AddUserPage.class);
         Assert.assertTrue(addUserPage.isAddUserPageDisplayed(),
                 "Should be on Add User page");
 
         // Click back button
         addUserPage.clickBack();
-        waitFor(UserManagementTestData.PAGE_LOAD_WAIT);
 
         // Verify returned to User Management page
-        boolean backToUserList = driver.getCurrentUrl().contains("user") &&
-                !driver.getCurrentUrl().contains("add");
+        boolean backToUserList = getDriver().getCurrentUrl().contains("user") &&
+                !getDriver().getCurrentUrl().contains("add");
 
         Assert.assertTrue(backToUserList,
                 "Should navigate back to User Management page");
@@ -368,11 +363,11 @@ public class UserManagementTest extends BaseTest {
     @Test(priority = 13, description = "Test SQL injection prevention in username field")
     public void testSQLInjectionPrevention() {
         System.out.println("\n▶ Test 13: SQL Injection Prevention");
+        UserManagementPage userManagementPage = page(UserManagementPage.class);
 
         userManagementPage.clickAddUser();
-        waitFor(UserManagementTestData.PAGE_LOAD_WAIT);
 
-        addUserPage = new AddUserPage(driver);
+        AddUserPage addUserPage = page(AddUserPage.class);
         addUserPage.waitForPageLoad();
 
         // Try SQL injection
@@ -385,7 +380,6 @@ public class UserManagementTest extends BaseTest {
         addUserPage.enterConfirmPassword(UserManagementTestData.NEW_PASSWORD);
 
         addUserPage.clickSave();
-        waitFor(UserManagementTestData.MEDIUM_WAIT);
 
         // Should show error or validation message
         boolean errorShown = addUserPage.isErrorMessageDisplayed() ||
@@ -400,11 +394,11 @@ public class UserManagementTest extends BaseTest {
     @Test(priority = 14, description = "Test XSS prevention in name fields")
     public void testXSSPrevention() {
         System.out.println("\n▶ Test 14: XSS Prevention");
+        UserManagementPage userManagementPage = page(UserManagementPage.class);
 
         userManagementPage.clickAddUser();
-        waitFor(UserManagementTestData.PAGE_LOAD_WAIT);
 
-        addUserPage = new AddUserPage(driver);
+        AddUserPage addUserPage = page(AddUserPage.class);
         addUserPage.waitForPageLoad();
 
         // Try XSS attack
@@ -417,7 +411,6 @@ public class UserManagementTest extends BaseTest {
         addUserPage.enterConfirmPassword(UserManagementTestData.NEW_PASSWORD);
 
         addUserPage.clickSave();
-        waitFor(UserManagementTestData.MEDIUM_WAIT);
 
         // Should show error or validation
         boolean errorShown = addUserPage.isErrorMessageDisplayed() ||
@@ -428,4 +421,61 @@ public class UserManagementTest extends BaseTest {
 
         System.out.println("✓ Test PASSED: XSS attack blocked");
     }
-}
\ No newline at end of file
+
+    // ==================== PAGINATION TESTS ====================
+
+    @NetworkProfile.Use("fast")
+    @Test(priority = 15, description = "Find existing user across all table pages")
+    public void testFindUserAcrossPages() {
+        System.out.println("\n▶ Test 15: Find User Across Pages");
+        UserManagementPage userManagementPage = page(UserManagementPage.class);
+
+        userManagementPage.waitForPageLoad();
+
+        // Pages are only fetched until the user is found
+        UserRow row = userManagementPage.findUserAcrossPages(UserManagementTestData.EXISTING_USERNAME);
+
+        Assert.assertNotNull(row,
+                "User '" + UserManagementTestData.EXISTING_USERNAME + "' should be on one of the pages");
+        Assert.assertEquals(row.getStatus(), UserManagementTestData.EXISTING_STATUS,
+                "User status should be Active");
+
+        System.out.println("✓ Test PASSED: User found across pages");
+    }
+
+    // ==================== API-SEEDED TESTS ====================
+
+    @NetworkProfile.Use("fast")
+    @Test(priority = 16, description = "Search for a user seeded through the API (stand-in or -Dapi.base.url)")
+    public void testSearchApiSeededUser() {
+        System.out.println("\n▶ Test 16: Search API-Seeded User");
+        String userName = "apiseed" + System.currentTimeMillis();
+
+        // Seed the precondition through the API instead of the Add User form
+        userApi().createUser(new UserRecord(
+                UserManagementTestData.VALID_GROUP,
+                UserManagementTestData.VALID_ESTATE,
+                UserManagementTestData.NEW_FIRST_NAME,
+                UserManagementTestData.NEW_LAST_NAME,
+                userName,
+                UserManagementTestData.NEW_PASSWORD,
+                UserManagementTestData.NEW_ROLE,
+                true,
+                false
+        ));
+
+        try {
+            UserManagementPage userManagementPage = page(UserManagementPage.class);
+            userManagementPage.searchUser(userName);
+
+            Assert.assertTrue(userManagementPage.isUserPresent(userName),
+                    "User '" + userName + "' created through the API should be listed");
+            Assert.assertEquals(userManagementPage.getUserStatus(userName), UserManagementTestData.EXISTING_STATUS,
+                    "User status should be Active");
+        } finally {
+            userApi().deleteUser(userName);
+        }
+
+        System.out.println("✓ Test PASSED: API-seeded user found by search");
+    }
+}
@@ -0,0 +1,307 @@
+/*
+ * Behaviour of the stand-in AgriGEN pages: login, MUI-like select menus,
+ * user table search / filters / paging, add user form with validation.
+ * Only what the page objects and Locators rely on is implemented.
+ */
+var StandIn = (function () {
+
+    function api(method, path, body) {
+        var options = { method: method, headers: { 'Accept': 'application/json' }, credentials: 'same-origin' };
+        if (body !== undefined) {
+            options.headers['Content-Type'] = 'application/json';
+            options.body = JSON.stringify(body);
+        }
+        return fetch(path, options).then(function (response) {
+            return response.text().then(function (text) {
+                var json = null;
+                try { json = text ? JSON.parse(text) : null; } catch (e) { json = null; }
+                return { status: response.status, ok: response.ok, json: json };
+            });
+        });
+    }
+
+    function el(tag, className, text) {
+        var node = document.createElement(tag);
+        if (className) node.className = className;
+        if (text !== undefined && text !== null) node.textContent = text;
+        return node;
+    }
+
+    function alert(container, severity, message) {
+        container.innerHTML = '';
+        var box = el('div', 'MuiAlert-root MuiAlert-standard' + (severity === 'error' ? 'Error MuiAlert-error' : 'Success MuiAlert-success'));
+        box.setAttribute('role', 'alert');
+        box.appendChild(el('div', 'MuiAlert-message', message));
+        container.appendChild(box);
+    }
+
+    function snackbar(severity, message) {
+        var bar = el('div', 'MuiSnackbar-root ' + severity);
+        var box = el('div', 'MuiAlert-root MuiAlert-' + severity);
+        box.appendChild(el('div', 'MuiAlert-message', message));
+        bar.appendChild(box);
+        document.body.appendChild(bar);
+        return bar;
+    }
+
+    // MUI Select: click opens a popover menu that fades in, picking an option fades it out
+    function bindSelects(options, onChange) {
+        Array.prototype.forEach.call(document.querySelectorAll('.MuiSelect-select[data-options]'), function (select) {
+            select.addEventListener('click', function () {
+                openMenu(options[select.getAttribute('data-options')] || [], function (value) {
+                    select.textContent = value;
+                    select.parentNode.querySelector('input[type=hidden]').value = value;
+                    if (onChange) onChange(select.getAttribute('data-name'), value);
+                });
+            });
+        });
+    }
+
+    function openMenu(values, onPick) {
+        var root = el('div', 'MuiPopover-root MuiMenu-root');
+        root.setAttribute('role', 'presentation');
+        var backdrop = el('div', 'MuiBackdrop-root MuiBackdrop-invisible');
+        var paper = el('div', 'MuiPaper-root MuiPopover-paper MuiMenu-paper');
+        paper.style.opacity = '0';
+        var list = el('ul', 'MuiList-root MuiMenu-list');
+        list.setAttribute('role', 'listbox');
+        values.forEach(function (value) {
+            var item = el('li', 'MuiButtonBase-root MuiMenuItem-root', value);
+            item.setAttribute('role', 'option');
+            item.setAttribute('data-value', value);
+            item.addEventListener('click', function () {
+                close();
+                onPick(value);
+            });
+            list.appendChild(item);
+        });
+        paper.appendChild(list);
+        root.appendChild(backdrop);
+        root.appendChild(paper);
+        document.body.appendChild(root);
+        requestAnimationFrame(function () { requestAnimationFrame(function () { paper.style.opacity = '1'; }); });
+
+        function close() {
+            paper.style.opacity = '0';
+            setTimeout(function () { root.remove(); }, 150);
+        }
+        backdrop.addEventListener('click', close);
+    }
+
+    function signin() {
+        var form = document.getElementById('login-form');
+        form.addEventListener('submit', function (event) {
+            event.preventDefault();
+            var container = document.getElementById('login-alert');
+            container.innerHTML = '';
+            api('POST', '/api/auth/login', {
+                username: document.getElementById('username').value,
+                password: document.getElementById('password').value
+            }).then(function (result) {
+                if (result.ok) {
+                    localStorage.setItem('token', result.json.token);
+                    localStorage.setItem('user', JSON.stringify(result.json.user));
+                    window.location.href = '/loader';
+                } else {
+                    alert(container, 'error', 'Error: Invalid username or password !');
+                }
+            }, function () {
+                alert(container, 'error', 'Error: Network error');
+            });
+        });
+    }
+
+    function loader() {
+        setTimeout(function () { window.location.replace('/app/dashboard'); }, 300);
+    }
+
+    function userList(options, table) {
+        var state = { search: '', group: table.group, estate: table.estate, page: table.page, size: table.size, total: table.total };
+        var tbody = document.getElementById('user-rows');
+        var debounce = null;
+        var seq = 0;
+
+        function render(result) {
+            tbody.innerHTML = '';
+            result.rows.forEach(function (user) {
+                var tr = el('tr', 'MuiTableRow-root');
+                [user.username, user.role, user.firstName, user.lastName, user.status].forEach(function (value) {
+                    tr.appendChild(el('td', 'MuiTableCell-root MuiTableCell-body', value));
+                });
+                var actions = el('td', 'MuiTableCell-root MuiTableCell-body');
+                var edit = el('button', 'MuiIconButton-root edit', '✎');
+                edit.type = 'button';
+                edit.title = 'Edit';
+                edit.setAttribute('data-user', user.username);
+                var del = el('button', 'MuiIconButton-root delete', '🗑');
+                del.type = 'button';
+                del.title = 'Delete';
+                del.setAttribute('data-user', user.username);
+                actions.appendChild(edit);
+                actions.appendChild(del);
+                tr.appendChild(actions);
+                tbody.appendChild(tr);
+            });
+            state.total = result.total;
+            state.page = result.page;
+            var from = result.total === 0 ? 0 : result.page * result.size + 1;
+            var to = Math.min(result.total, (result.page + 1) * result.size);
+            document.getElementById('caption').textContent = from + '-' + to + ' of ' + result.total;
+            var last = Math.max(0, Math.ceil(result.total / result.size) - 1);
+            document.querySelectorAll('[data-page=first], [data-page=previous]').forEach(function (b) { b.disabled = result.page <= 0; });
+            document.querySelectorAll('[data-page=next], [data-page=last]').forEach(function (b) { b.disabled = result.page >= last; });
+        }
+
+        function load() {
+            var mine = ++seq;
+            var query = '?search=' + encodeURIComponent(state.search) + '&group=' + encodeURIComponent(state.group)
+                + '&estate=' + encodeURIComponent(state.estate) + '&page=' + state.page + '&size=' + state.size;
+            api('GET', '/api/users' + query).then(function (result) {
+                // Ignore responses that were overtaken by a newer request
+                if (mine !== seq) return;
+                if (result.ok) {
+                    render(result.json);
+                } else {
+                    snackbar('error', 'Error: Failed to load users (' + result.status + ')');
+                }
+            });
+        }
+
+        var search = document.getElementById('search');
+        var onSearch = function () {
+            clearTimeout(debounce);
+            debounce = setTimeout(function () {
+                state.search = search.value;
+                state.page = 0;
+                load();
+            }, 150);
+        };
+        search.addEventListener('input', onSearch);
+        search.addEventListener('change', onSearch);
+
+        bindSelects(options, function (name, value) {
+            state[name] = value;
+            state.page = 0;
+            load();
+        });
+
+        document.querySelectorAll('[data-page]').forEach(function (button) {
+            button.addEventListener('click', function () {
+                var last = Math.max(0, Math.ceil(state.total / state.size) - 1);
+                var target = { first: 0, previous: state.page - 1, next: state.page + 1, last: last }[button.getAttribute('data-page')];
+                state.page = Math.max(0, Math.min(last, target));
+                load();
+            });
+        });
+
+        document.getElementById('add-user').addEventListener('click', function () {
+            window.location.href = '/app/user-management/user/add';
+        });
+
+        tbody.addEventListener('click', function (event) {
+            var button = event.target.closest('button');
+            if (!button) return;
+            var username = button.getAttribute('data-user');
+            if (button.title === 'Edit') {
+                window.location.href = '/app/user-management/user/add?username=' + encodeURIComponent(username);
+            } else if (button.title === 'Delete') {
+                confirmDelete(username, load);
+            }
+        });
+    }
+
+    function confirmDelete(username, reload) {
+        var dialog = el('div', 'MuiDialog-root');
+        var paper = el('div', 'MuiPaper-root MuiDialog-paper');
+        paper.appendChild(el('h2', 'MuiDialogTitle-root', 'Delete User'));
+        paper.appendChild(el('div', 'MuiDialogContent-root', 'Delete user ' + username + '?'));
+        var yes = el('button', 'MuiButton-root', 'Yes');
+        var no = el('button', 'MuiButton-root', 'No');
+        paper.appendChild(yes);
+        paper.appendChild(no);
+        dialog.appendChild(paper);
+        document.body.appendChild(dialog);
+        no.addEventListener('click', function () { dialog.remove(); });
+        yes.addEventListener('click', function () {
+            api('DELETE', '/api/users/' + encodeURIComponent(username)).then(function (result) {
+                dialog.remove();
+                snackbar(result.ok ? 'success' : 'error', result.ok ? 'User deleted successfully' : 'Error: Delete failed');
+                reload();
+            });
+        });
+    }
+
+    function addUser(options, editUser) {
+        var form = document.getElementById('user-form');
+        var container = document.getElementById('form-alert');
+        bindSelects(options);
+
+        if (editUser) {
+            ['group', 'estate', 'role'].forEach(function (name) {
+                form.querySelector('input[name=' + name + ']').value = editUser[name];
+                form.querySelector('[data-name=' + name + ']').textContent = editUser[name];
+            });
+            form.elements.firstName.value = editUser.firstName;
+            form.elements.lastName.value = editUser.lastName;
+            form.elements.userName.value = editUser.username;
+            document.getElementById('active').checked = editUser.active;
+            document.getElementById('locked').checked = editUser.locked;
+        }
+
+        document.getElementById('back').addEventListener('click', function () {
+            window.location.href = '/app/user-management/user';
+        });
+
+        document.querySelectorAll('[data-toggle]').forEach(function (button) {
+            button.addEventListener('click', function () {
+                var input = form.elements[button.getAttribute('data-toggle')];
+                input.type = input.type === 'password' ? 'text' : 'password';
+            });
+        });
+
+        function fieldError(name, message) {
+            var control = form.querySelector('[name=' + name + ']').closest('.MuiFormControl-root');
+            control.appendChild(el('p', 'MuiFormHelperText-root Mui-error error', message));
+        }
+
+        form.addEventListener('submit', function (event) {
+            event.preventDefault();
+            form.querySelectorAll('.MuiFormHelperText-root').forEach(function (p) { p.remove(); });
+            container.innerHTML = '';
+
+            var values = {};
+            ['group', 'estate', 'firstName', 'lastName', 'userName', 'password', 'confirmPassword', 'role'].forEach(function (name) {
+                values[name] = form.querySelector('[name=' + name + ']').value.trim();
+            });
+            var valid = true;
+            Object.keys(values).forEach(function (name) {
+                if (!values[name] && !(editUser && (name === 'password' || name === 'confirmPassword'))) {
+                    fieldError(name, 'This field is required');
+                    valid = false;
+                }
+            });
+            if (values.password !== values.confirmPassword) {
+                fieldError('confirmPassword', 'Passwords do not match');
+                valid = false;
+            }
+            if (!valid) return;
+
+            var method = editUser ? 'PUT' : 'POST';
+            var path = editUser ? '/api/users/' + encodeURIComponent(editUser.username) : '/api/users';
+            api(method, path, {
+                username: values.userName, password: values.password, firstName: values.firstName,
+                lastName: values.lastName, role: values.role, group: values.group, estate: values.estate,
+                active: document.getElementById('active').checked, locked: document.getElementById('locked').checked
+            }).then(function (result) {
+                if (result.ok) {
+                    snackbar('success', editUser ? 'User updated successfully' : 'User added successfully');
+                    setTimeout(function () { window.location.href = '/app/user-management/user'; }, 800);
+                } else {
+                    alert(container, 'error', result.json && result.json.error ? result.json.error : 'Error: Save failed');
+                }
+            });
+        });
+    }
+
+    return { signin: signin, loader: loader, userList: userList, addUser: addUser };
+})();